@@ -0,0 +1,200 @@
+package com.sleekbyte.tailor.benchmark;
+
+import com.sleekbyte.tailor.antlr.SwiftLexer;
+import com.sleekbyte.tailor.antlr.SwiftParser;
+import com.sleekbyte.tailor.antlr.SwiftParser.TopLevelContext;
+import com.sleekbyte.tailor.utils.CommentExtractor;
+import com.sleekbyte.tailor.utils.ParserUtil;
+import com.sleekbyte.tailor.utils.SourceBuffer;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CommonTokenStream;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Swift sources analyzed by the benchmarks: either the functional test fixtures, or a single large synthetic file.
+ */
+final class BenchmarkCorpus {
+
+    static final String FIXTURES = "fixtures";
+    static final String SYNTHETIC = "synthetic";
+
+    private static final String CORPUS_DIR_PROPERTY = "tailor.benchmark.corpus";
+    private static final String DEFAULT_CORPUS_DIR = "src/test/swift";
+    private static final String SYNTHETIC_BLOCKS_PROPERTY = "tailor.benchmark.syntheticBlocks";
+    private static final int DEFAULT_SYNTHETIC_BLOCKS = 100;
+
+    // Syntax errors are expected in parts of the fixtures, and must not end a benchmark
+    static final ANTLRErrorListener IGNORE_ERRORS = new BaseErrorListener();
+
+    // Covers declarations, generics, closures, control flow and comments; %1$d makes every name unique
+    private static final String SYNTHETIC_BLOCK = ""
+        + "// TODO: Split synthetic block %1$d\n"
+        + "/* Multiline comment for block %1$d */\n"
+        + "protocol Shape%1$d {\n"
+        + "    var area: Double { get }\n"
+        + "    func describe() -> String\n"
+        + "}\n"
+        + "\n"
+        + "struct Rectangle%1$d: Shape%1$d {\n"
+        + "    let width: Double\n"
+        + "    let height: Double\n"
+        + "\n"
+        + "    var area: Double {\n"
+        + "        return width * height\n"
+        + "    }\n"
+        + "\n"
+        + "    func describe() -> String {\n"
+        + "        return \"Rectangle \\(width) x \\(height)\"\n"
+        + "    }\n"
+        + "}\n"
+        + "\n"
+        + "enum Direction%1$d {\n"
+        + "    case north, south, east, west\n"
+        + "}\n"
+        + "\n"
+        + "class Container%1$d<Element: Equatable> {\n"
+        + "    private var items: [Element] = []\n"
+        + "    let kMaximumCount = 100\n"
+        + "\n"
+        + "    func append(item: Element) {\n"
+        + "        if (items.count < kMaximumCount) {\n"
+        + "            items.append(item);\n"
+        + "        }\n"
+        + "    }\n"
+        + "\n"
+        + "    func contains(item: Element) -> Bool {\n"
+        + "        return items.contains { $0 == item }\n"
+        + "    }\n"
+        + "\n"
+        + "    func transformed<T>(transform: (Element) -> T) -> [T] {\n"
+        + "        return items.map({ element in transform(element) })\n"
+        + "    }\n"
+        + "}\n"
+        + "\n"
+        + "func process%1$d(values: [Int], completion: ([Int]) -> Void) {\n"
+        + "    let sorted = values.sort { $0 < $1 }\n"
+        + "    let shape = Rectangle%1$d(width: 2, height: 3) as! Shape%1$d\n"
+        + "    for value in sorted where value > 0 {\n"
+        + "        print(value, shape.area)\n"
+        + "    }\n"
+        + "    completion(sorted)\n"
+        + "}\n"
+        + "\n";
+
+    /**
+     * Lexed and parsed Swift file.
+     */
+    static final class ParsedFile {
+        final SourceBuffer source;
+        final CommonTokenStream tokenStream;
+        final TopLevelContext tree;
+        final CommentExtractor commentExtractor;
+
+        ParsedFile(SourceBuffer source) {
+            this.source = source;
+            this.tokenStream = lex(source);
+            this.tree = ParserUtil.parseTopLevel(new SwiftParser(tokenStream), IGNORE_ERRORS);
+            this.commentExtractor = new CommentExtractor(tokenStream);
+        }
+
+        File getFile() {
+            return source.getFile();
+        }
+    }
+
+    private BenchmarkCorpus() {}
+
+    /**
+     * Reads the contents of all Swift files in the specified corpus.
+     *
+     * @param corpus either {@link #FIXTURES} or {@link #SYNTHETIC}
+     * @return buffered Swift files
+     * @throws IOException if the corpus cannot be read or generated
+     */
+    static List<SourceBuffer> read(String corpus) throws IOException {
+        List<SourceBuffer> sources = new ArrayList<>();
+        for (File file : getFiles(corpus)) {
+            sources.add(SourceBuffer.read(file));
+        }
+        return sources;
+    }
+
+    /**
+     * Lexes and parses all Swift files in the specified corpus.
+     *
+     * @param corpus either {@link #FIXTURES} or {@link #SYNTHETIC}
+     * @return parsed Swift files
+     * @throws IOException if the corpus cannot be read or generated
+     */
+    static List<ParsedFile> parse(String corpus) throws IOException {
+        List<ParsedFile> parsedFiles = new ArrayList<>();
+        for (SourceBuffer source : read(corpus)) {
+            parsedFiles.add(new ParsedFile(source));
+        }
+        return parsedFiles;
+    }
+
+    /**
+     * Tokenizes a Swift file, ignoring lexer errors.
+     *
+     * @param source buffered Swift file
+     * @return token stream holding all tokens of the file
+     */
+    static CommonTokenStream lex(SourceBuffer source) {
+        SwiftLexer lexer = new SwiftLexer(source.newCharStream());
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(IGNORE_ERRORS);
+        CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+        tokenStream.fill();
+        return tokenStream;
+    }
+
+    /**
+     * Returns the Swift files of the specified corpus, in a stable order.
+     *
+     * @param corpus either {@link #FIXTURES} or {@link #SYNTHETIC}
+     * @return Swift files to analyze
+     * @throws IOException if the corpus cannot be read or generated
+     */
+    private static List<File> getFiles(String corpus) throws IOException {
+        if (SYNTHETIC.equals(corpus)) {
+            Path file = Files.createTempFile("Synthetic", ".swift");
+            file.toFile().deleteOnExit();
+            int blocks = Integer.getInteger(SYNTHETIC_BLOCKS_PROPERTY, DEFAULT_SYNTHETIC_BLOCKS);
+            Files.write(file, generateSyntheticSource(blocks).getBytes(StandardCharsets.UTF_8));
+            return Collections.singletonList(file.toFile());
+        }
+        Path corpusDir = Paths.get(System.getProperty(CORPUS_DIR_PROPERTY, DEFAULT_CORPUS_DIR));
+        try (Stream<Path> paths = Files.walk(corpusDir)) {
+            return paths.filter(path -> path.toString().endsWith(".swift")).sorted().map(Path::toFile)
+                .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Generates a valid Swift source file by repeating a block of common constructs.
+     *
+     * @param blocks number of blocks to generate
+     * @return contents of the synthetic file
+     */
+    static String generateSyntheticSource(int blocks) {
+        StringBuilder source = new StringBuilder("import Foundation\n\n");
+        for (int i = 0; i < blocks; i++) {
+            source.append(String.format(SYNTHETIC_BLOCK, i));
+        }
+        return source.toString();
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.sleekbyte.tailor.benchmark;
+
+import com.sleekbyte.tailor.benchmark.BenchmarkCorpus.ParsedFile;
+import com.sleekbyte.tailor.common.ColorSettings;
+import com.sleekbyte.tailor.common.Severity;
+import com.sleekbyte.tailor.format.Formatter;
+import com.sleekbyte.tailor.format.XcodeFormatter;
+import com.sleekbyte.tailor.listeners.CommentAnalyzer;
+import com.sleekbyte.tailor.listeners.MetaCommentListener;
+import com.sleekbyte.tailor.listeners.TodoCommentListener;
+import com.sleekbyte.tailor.listeners.whitespace.CommentWhitespaceListener;
+import com.sleekbyte.tailor.output.Printer;
+import com.sleekbyte.tailor.output.ViolationSuppressor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ViolationSuppressor#analyze()} and the comment-based rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CommentAnalyzerBenchmark {
+
+    /**
+     * Analyzers of the comments extracted from the token stream.
+     */
+    public enum Analyzer {
+        VIOLATION_SUPPRESSOR,
+        COMMENT_WHITESPACE,
+        TODO_SYNTAX,
+        META_COMMENT_SYNTAX
+    }
+
+    @Param({BenchmarkCorpus.FIXTURES, BenchmarkCorpus.SYNTHETIC})
+    public String corpus;
+
+    @Param({"VIOLATION_SUPPRESSOR", "COMMENT_WHITESPACE", "TODO_SYNTAX", "META_COMMENT_SYNTAX"})
+    public Analyzer analyzer;
+
+    private List<ParsedFile> parsedFiles;
+    private Formatter formatter = new XcodeFormatter(new ColorSettings(false, false));
+
+    /**
+     * Lexes all files of the corpus and extracts their comments up front, so that only the analysis is measured.
+     *
+     * @throws IOException if the corpus cannot be read
+     */
+    @Setup
+    public void extractComments() throws IOException {
+        parsedFiles = BenchmarkCorpus.parse(corpus);
+    }
+
+    /**
+     * Analyzes the comments of every file of the corpus once.
+     *
+     * @param blackhole sink for the printers holding the violation messages
+     */
+    @Benchmark
+    public void analyzeCorpus(Blackhole blackhole) {
+        for (ParsedFile parsedFile : parsedFiles) {
+            Printer printer = new Printer(parsedFile.getFile(), Severity.WARNING, formatter);
+            createAnalyzer(printer, parsedFile).analyze();
+            blackhole.consume(printer);
+        }
+    }
+
+    private CommentAnalyzer createAnalyzer(Printer printer, ParsedFile parsedFile) {
+        switch (analyzer) {
+            case COMMENT_WHITESPACE:
+                return new CommentWhitespaceListener(printer, parsedFile.commentExtractor);
+            case TODO_SYNTAX:
+                return new TodoCommentListener(printer, parsedFile.commentExtractor);
+            case META_COMMENT_SYNTAX:
+                return new MetaCommentListener(printer, parsedFile.commentExtractor);
+            default:
+                return new ViolationSuppressor(printer, parsedFile.commentExtractor);
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.sleekbyte.tailor.benchmark;
+
+import com.sleekbyte.tailor.common.AnalysisTier;
+import com.sleekbyte.tailor.common.ColorSettings;
+import com.sleekbyte.tailor.common.ConstructLengths;
+import com.sleekbyte.tailor.common.Rules;
+import com.sleekbyte.tailor.common.Severity;
+import com.sleekbyte.tailor.format.Formatter;
+import com.sleekbyte.tailor.format.XcodeFormatter;
+import com.sleekbyte.tailor.listeners.FileListener;
+import com.sleekbyte.tailor.output.Printer;
+import com.sleekbyte.tailor.utils.SourceBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures {@link FileListener#verify()} with all line-based rules enabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FileListenerBenchmark {
+
+    @Param({BenchmarkCorpus.FIXTURES, BenchmarkCorpus.SYNTHETIC})
+    public String corpus;
+
+    private List<SourceBuffer> sources;
+    private Set<Rules> lineRules;
+    private ConstructLengths constructLengths = RuleListeners.getConstructLengths();
+    private Formatter formatter = new XcodeFormatter(new ColorSettings(false, false));
+
+    /**
+     * Reads all files of the corpus up front, so that only verification is measured.
+     *
+     * @throws IOException if the corpus cannot be read
+     */
+    @Setup
+    public void readCorpus() throws IOException {
+        sources = BenchmarkCorpus.read(corpus);
+        lineRules = Arrays.stream(Rules.values()).filter(rule -> rule.getTier() == AnalysisTier.LINES)
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(Rules.class)));
+    }
+
+    /**
+     * Verifies every file of the corpus once.
+     *
+     * @param blackhole sink for the printers holding the violation messages
+     * @throws IOException if a file cannot be verified
+     */
+    @Benchmark
+    public void verifyCorpus(Blackhole blackhole) throws IOException {
+        for (SourceBuffer source : sources) {
+            Printer printer = new Printer(source.getFile(), Severity.WARNING, formatter);
+            try (FileListener fileListener = new FileListener(printer, source, constructLengths, lineRules)) {
+                fileListener.verify();
+            }
+            blackhole.consume(printer);
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.sleekbyte.tailor.benchmark;
+
+import com.sleekbyte.tailor.antlr.SwiftBaseListener;
+import com.sleekbyte.tailor.benchmark.BenchmarkCorpus.ParsedFile;
+import com.sleekbyte.tailor.common.ColorSettings;
+import com.sleekbyte.tailor.common.Severity;
+import com.sleekbyte.tailor.format.Format;
+import com.sleekbyte.tailor.format.Formatter;
+import com.sleekbyte.tailor.listeners.CompositeListener;
+import com.sleekbyte.tailor.listeners.ListenerRegistry;
+import com.sleekbyte.tailor.output.Printer;
+import com.sleekbyte.tailor.output.ViolationMessage;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Constructor;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how fast each {@link Formatter} displays the violation messages found in the corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FormatterBenchmark {
+
+    @Param({BenchmarkCorpus.FIXTURES, BenchmarkCorpus.SYNTHETIC})
+    public String corpus;
+
+    @Param({"XCODE", "JSON", "CC", "HTML"})
+    public Format format;
+
+    private Map<File, List<ViolationMessage>> violationMessages = new LinkedHashMap<>();
+    private long numWarnings = 0;
+    private Constructor<?> formatterConstructor;
+    private PrintStream stdout;
+
+    /**
+     * Collects the violation messages of all tree and line rules for every file of the corpus, and discards
+     * everything written to standard output while benchmarking.
+     *
+     * @throws IOException if the corpus cannot be read
+     * @throws ReflectiveOperationException if the formatter cannot be instantiated
+     */
+    @Setup
+    public void analyzeCorpus() throws IOException, ReflectiveOperationException {
+        ListenerRegistry listenerRegistry = RuleListeners.createRegistry(RuleListeners.getTreeRules());
+        for (ParsedFile parsedFile : BenchmarkCorpus.parse(corpus)) {
+            Printer printer = new Printer(parsedFile.getFile(), Severity.WARNING, null);
+            List<SwiftBaseListener> listeners = listenerRegistry.createListeners(printer, parsedFile.tokenStream);
+            ParseTreeWalker.DEFAULT.walk(new CompositeListener(listeners), parsedFile.tree);
+
+            List<ViolationMessage> messages = printer.getDisplayableViolationMessages();
+            Collections.sort(messages);
+            violationMessages.put(parsedFile.getFile(), messages);
+            numWarnings += messages.size();
+        }
+        formatterConstructor = Class.forName(format.getClassName()).getConstructor(ColorSettings.class);
+
+        stdout = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+                @Override
+                public void write(int value) {}
+
+                @Override
+                public void write(byte[] bytes, int offset, int length) {}
+            }, false, "UTF-8"));
+    }
+
+    @TearDown
+    public void restoreStdout() {
+        System.setOut(stdout);
+    }
+
+    /**
+     * Displays the violation messages of every file of the corpus, followed by the summary.
+     *
+     * @throws IOException if the formatter fails to display the messages
+     * @throws ReflectiveOperationException if the formatter cannot be instantiated
+     */
+    @Benchmark
+    public void displayCorpus() throws IOException, ReflectiveOperationException {
+        Formatter formatter = (Formatter) formatterConstructor.newInstance(new ColorSettings(false, false));
+        for (Map.Entry<File, List<ViolationMessage>> entry : violationMessages.entrySet()) {
+            formatter.displayViolationMessages(entry.getValue(), entry.getKey());
+        }
+        formatter.displaySummary(violationMessages.size(), 0, 0, numWarnings);
+    }
+
+}
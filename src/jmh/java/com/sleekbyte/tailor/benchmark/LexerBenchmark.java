@@ -0,0 +1,55 @@
+package com.sleekbyte.tailor.benchmark;
+
+import com.sleekbyte.tailor.antlr.SwiftLexer;
+import com.sleekbyte.tailor.utils.SourceBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SwiftLexer} tokenization of whole files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LexerBenchmark {
+
+    @Param({BenchmarkCorpus.FIXTURES, BenchmarkCorpus.SYNTHETIC})
+    public String corpus;
+
+    private List<SourceBuffer> sources;
+
+    @Setup
+    public void readCorpus() throws IOException {
+        sources = BenchmarkCorpus.read(corpus);
+    }
+
+    /**
+     * Tokenizes every file of the corpus once.
+     *
+     * @param blackhole sink for the token streams
+     */
+    @Benchmark
+    public void lexCorpus(Blackhole blackhole) {
+        for (SourceBuffer source : sources) {
+            blackhole.consume(BenchmarkCorpus.lex(source));
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.sleekbyte.tailor.benchmark;
+
+import com.sleekbyte.tailor.antlr.SwiftBaseListener;
+import com.sleekbyte.tailor.benchmark.BenchmarkCorpus.ParsedFile;
+import com.sleekbyte.tailor.common.ColorSettings;
+import com.sleekbyte.tailor.common.Rules;
+import com.sleekbyte.tailor.common.Severity;
+import com.sleekbyte.tailor.format.Formatter;
+import com.sleekbyte.tailor.format.XcodeFormatter;
+import com.sleekbyte.tailor.listeners.CompositeListener;
+import com.sleekbyte.tailor.listeners.ListenerRegistry;
+import com.sleekbyte.tailor.output.Printer;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parse tree walk of each rule's listener, together with the length listeners that Tailor always
+ * creates, which only check the length rules among the benchmarked ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ListenerBenchmark {
+
+    @Param({BenchmarkCorpus.FIXTURES, BenchmarkCorpus.SYNTHETIC})
+    public String corpus;
+
+    // All rules checked by walking the parse tree
+    @Param({"angle-bracket-whitespace", "arrow-whitespace", "brace-style", "colon-whitespace", "comma-whitespace",
+        "constant-k-prefix", "constant-naming", "forced-type-cast", "function-whitespace", "lower-camel-case",
+        "max-class-length", "max-closure-length", "max-function-length", "max-name-length", "max-struct-length",
+        "min-name-length", "multiple-imports", "operator-whitespace", "parenthesis-whitespace",
+        "redundant-parentheses", "terminating-semicolon", "trailing-closure", "upper-camel-case"})
+    public String rule;
+
+    private ListenerRegistry listenerRegistry;
+    private List<ParsedFile> parsedFiles;
+    private Formatter formatter = new XcodeFormatter(new ColorSettings(false, false));
+
+    /**
+     * Parses all files of the corpus up front, so that only the walks are measured.
+     *
+     * @throws IOException if the corpus cannot be read
+     */
+    @Setup
+    public void parseCorpus() throws IOException {
+        Rules benchmarkedRule = RuleListeners.getRule(rule);
+        if (!RuleListeners.getTreeRules().contains(benchmarkedRule)) {
+            throw new IllegalArgumentException(rule + " is not checked by walking the parse tree");
+        }
+        listenerRegistry = RuleListeners.createRegistry(EnumSet.of(benchmarkedRule));
+        parsedFiles = BenchmarkCorpus.parse(corpus);
+    }
+
+    /**
+     * Walks the parse tree of every file of the corpus with new listeners for the rule.
+     *
+     * @param blackhole sink for the printers holding the violation messages
+     */
+    @Benchmark
+    public void walkCorpus(Blackhole blackhole) {
+        for (ParsedFile parsedFile : parsedFiles) {
+            Printer printer = new Printer(parsedFile.getFile(), Severity.WARNING, formatter);
+            List<SwiftBaseListener> listeners = listenerRegistry.createListeners(printer, parsedFile.tokenStream);
+            ParseTreeWalker.DEFAULT.walk(new CompositeListener(listeners), parsedFile.tree);
+            blackhole.consume(printer);
+        }
+    }
+
+}
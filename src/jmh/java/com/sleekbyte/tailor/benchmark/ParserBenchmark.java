@@ -0,0 +1,94 @@
+package com.sleekbyte.tailor.benchmark;
+
+import com.sleekbyte.tailor.antlr.SwiftParser;
+import com.sleekbyte.tailor.utils.ParserUtil;
+import com.sleekbyte.tailor.utils.SourceBuffer;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SwiftParser#topLevel()}, comparing full LL parsing with two-stage SLL-then-LL parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ParserBenchmark {
+
+    /**
+     * Prediction mode used by the parser.
+     */
+    public enum Strategy {
+        LL,
+        SLL_THEN_LL
+    }
+
+    @Param({BenchmarkCorpus.FIXTURES, BenchmarkCorpus.SYNTHETIC})
+    public String corpus;
+
+    @Param({"LL", "SLL_THEN_LL"})
+    public Strategy strategy;
+
+    // Cold runs start from an empty DFA cache, like a fresh Tailor process; warm runs reuse it, like the daemon
+    @Param({"false", "true"})
+    public boolean coldDfa;
+
+    private List<CommonTokenStream> tokenStreams;
+
+    /**
+     * Lexes all files of the corpus up front, so that only parsing is measured.
+     *
+     * @throws IOException if the corpus cannot be read
+     */
+    @Setup
+    public void lexCorpus() throws IOException {
+        tokenStreams = new ArrayList<>();
+        for (SourceBuffer source : BenchmarkCorpus.read(corpus)) {
+            tokenStreams.add(BenchmarkCorpus.lex(source));
+        }
+    }
+
+    /**
+     * Parses every file of the corpus once.
+     *
+     * @param blackhole sink for the parse trees
+     */
+    @Benchmark
+    public void parseCorpus(Blackhole blackhole) {
+        boolean clearDfa = coldDfa;
+        for (CommonTokenStream tokenStream : tokenStreams) {
+            tokenStream.seek(0);
+            SwiftParser parser = new SwiftParser(tokenStream);
+            if (clearDfa) {
+                parser.getInterpreter().clearDFA();
+                clearDfa = false;
+            }
+            if (strategy == Strategy.LL) {
+                parser.removeErrorListeners();
+                parser.addErrorListener(BenchmarkCorpus.IGNORE_ERRORS);
+                blackhole.consume(parser.topLevel());
+            } else {
+                blackhole.consume(ParserUtil.parseTopLevel(parser, BenchmarkCorpus.IGNORE_ERRORS));
+            }
+        }
+    }
+
+}
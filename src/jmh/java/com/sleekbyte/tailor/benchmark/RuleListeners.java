@@ -0,0 +1,69 @@
+package com.sleekbyte.tailor.benchmark;
+
+import com.sleekbyte.tailor.common.AnalysisTier;
+import com.sleekbyte.tailor.common.ConstructLengths;
+import com.sleekbyte.tailor.common.Rules;
+import com.sleekbyte.tailor.listeners.ListenerRegistry;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Selects rules and creates their parse tree listeners the same way Tailor does.
+ */
+final class RuleListeners {
+
+    private RuleListeners() {}
+
+    /**
+     * Returns all rules that are checked by walking the parse tree.
+     *
+     * @return rules whose tier is {@link AnalysisTier#TREE}
+     */
+    static Set<Rules> getTreeRules() {
+        return Arrays.stream(Rules.values()).filter(rule -> rule.getTier() == AnalysisTier.TREE)
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(Rules.class)));
+    }
+
+    /**
+     * Looks up a rule by its command line name.
+     *
+     * @param name name of the rule, e.g. "brace-style"
+     * @return the rule with the specified name
+     */
+    static Rules getRule(String name) {
+        return Arrays.stream(Rules.values()).filter(rule -> rule.getName().equals(name)).findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown rule: " + name));
+    }
+
+    /**
+     * Construct lengths that make every length rule report violations on typical code.
+     *
+     * @return construct length restrictions
+     */
+    static ConstructLengths getConstructLengths() {
+        ConstructLengths constructLengths = new ConstructLengths();
+        constructLengths.setMaxClassLength(20);
+        constructLengths.setMaxClosureLength(5);
+        constructLengths.setMaxFileLength(100);
+        constructLengths.setMaxFunctionLength(10);
+        constructLengths.setMaxLineLength(80);
+        constructLengths.setMaxNameLength(15);
+        constructLengths.setMaxStructLength(20);
+        constructLengths.setMinNameLength(3);
+        return constructLengths;
+    }
+
+    /**
+     * Creates the registry that Tailor creates the parse tree listeners of the specified rules with, once per run.
+     *
+     * @param rules rules whose tier is {@link AnalysisTier#TREE}
+     * @return registry of the listeners of the rules, including the length listeners
+     */
+    static ListenerRegistry createRegistry(Set<Rules> rules) {
+        return new ListenerRegistry(rules, getConstructLengths());
+    }
+
+}
@@ -714,9 +714,11 @@ explicitMemberExpression
 
 // split the operators out into the individual tokens as some of those tokens
 // are also referenced individually. For example, type signatures use
-// <...>.
+// <...>. Operators that cannot contain those tokens are lexed whole
+// (see CompoundOperator).
 
-operatorHead: '=' | '<' | '>' | '!' | '*' | '&' | '==' | '?' | '-' | '&&' | '||' | '/' | '>=' | '->' | OperatorHead;
+operatorHead: '=' | '<' | '>' | '!' | '*' | '&' | '==' | '?' | '-' | '&&' | '||' | '/' | '>=' | '->' | OperatorHead
+  | CompoundOperator ;
 operatorCharacter: operatorHead | OperatorCharacter;
 
 operator: operatorHead operatorCharacter*
@@ -936,6 +938,24 @@ DotOperatorHead
   : '..'
   ;
 
+/* Run of operator characters such as += or ++, lexed as a single token instead
+ * of one token per character. A run cannot start with a character that also
+ * ends a type (> ? !), starts an initializer (=) or an in-out argument (&), and
+ * cannot contain < > ? ! or the / and * of a comment, so generic argument
+ * clauses, optional types and comments are lexed as before.
+ */
+CompoundOperator
+  : CompoundOperatorHead CompoundOperatorCharacter+
+  ;
+
+fragment CompoundOperatorHead
+  : '/' | '-' | '+' | '*' | '%' | '|' | '^' | '~'
+  ;
+
+fragment CompoundOperatorCharacter
+  : '=' | '-' | '+' | '%' | '&' | '|' | '^' | '~'
+  ;
+
 Identifier : IdentifierHead IdentifierCharacters?
  | '`' IdentifierHead IdentifierCharacters? '`'
  | ImplicitParameterName
@@ -1038,7 +1058,10 @@ EscapedCharacter : '\\' [0\\tnr"']
  | '\\u' '{' HexadecimalDigit HexadecimalDigit? HexadecimalDigit? HexadecimalDigit? HexadecimalDigit? HexadecimalDigit? HexadecimalDigit? HexadecimalDigit? '}'
 ;
 
-WS : [ \n\r\t\u000B\u000C\u0000] -> channel(HIDDEN) ;
+/* Runs of horizontal whitespace are matched as a single token, while each newline remains a token of its own, so
+ * that blank lines can still be counted by looking for newline tokens.
+ */
+WS : ([ \r\t\u000B\u000C\u0000]+ | '\n') -> channel(HIDDEN) ;
 
 /* Added optional newline character to prevent the whitespace lexer rule from matching newline
  * at the end of the comment. This affects how blank lines are counted around functions.
@@ -4,6 +4,7 @@ import com.sleekbyte.tailor.antlr.SwiftBaseListener;
 import com.sleekbyte.tailor.antlr.SwiftLexer;
 import com.sleekbyte.tailor.antlr.SwiftParser;
 import com.sleekbyte.tailor.antlr.SwiftParser.TopLevelContext;
+import com.sleekbyte.tailor.common.AnalysisTier;
 import com.sleekbyte.tailor.common.ColorSettings;
 import com.sleekbyte.tailor.common.ConfigProperties;
 import com.sleekbyte.tailor.common.ConstructLengths;
@@ -11,39 +12,57 @@ import com.sleekbyte.tailor.common.ExitCode;
 import com.sleekbyte.tailor.common.Messages;
 import com.sleekbyte.tailor.common.Rules;
 import com.sleekbyte.tailor.common.Severity;
+import com.sleekbyte.tailor.daemon.TailorClient;
+import com.sleekbyte.tailor.daemon.TailorDaemon;
 import com.sleekbyte.tailor.format.Formatter;
+import com.sleekbyte.tailor.format.JSONFormatter;
+import com.sleekbyte.tailor.format.JSONMerger;
 import com.sleekbyte.tailor.integration.XcodeIntegrator;
-import com.sleekbyte.tailor.listeners.BlankLineListener;
-import com.sleekbyte.tailor.listeners.BraceStyleListener;
+import com.sleekbyte.tailor.listeners.CommentAnalyzer;
+import com.sleekbyte.tailor.listeners.CompositeListener;
 import com.sleekbyte.tailor.listeners.ErrorListener;
 import com.sleekbyte.tailor.listeners.FileListener;
-import com.sleekbyte.tailor.listeners.TodoCommentListener;
-import com.sleekbyte.tailor.listeners.MetaCommentListener;
-import com.sleekbyte.tailor.listeners.lengths.MaxLengthListener;
-import com.sleekbyte.tailor.listeners.lengths.MinLengthListener;
-import com.sleekbyte.tailor.listeners.whitespace.CommentWhitespaceListener;
+import com.sleekbyte.tailor.listeners.ListenerRegistry;
+import com.sleekbyte.tailor.output.OrderedPrinterQueue;
 import com.sleekbyte.tailor.output.Printer;
+import com.sleekbyte.tailor.output.Profiler;
+import com.sleekbyte.tailor.output.ResultCache;
 import com.sleekbyte.tailor.output.ViolationSuppressor;
 import com.sleekbyte.tailor.utils.CLIArgumentParser.CLIArgumentParserException;
+import com.sleekbyte.tailor.utils.ColumnarTokenStream;
 import com.sleekbyte.tailor.utils.CommentExtractor;
 import com.sleekbyte.tailor.utils.Configuration;
-import org.antlr.v4.runtime.ANTLRInputStream;
+import com.sleekbyte.tailor.utils.DFACache;
+import com.sleekbyte.tailor.utils.GitChanges;
+import com.sleekbyte.tailor.utils.MemoryBudget;
+import com.sleekbyte.tailor.utils.ParserUtil;
+import com.sleekbyte.tailor.utils.Shard;
+import com.sleekbyte.tailor.utils.SourceBuffer;
+import org.antlr.v4.runtime.ANTLRErrorListener;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.apache.commons.cli.ParseException;
 import org.yaml.snakeyaml.error.YAMLException;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.lang.reflect.Constructor;
-import java.util.LinkedList;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -51,14 +70,39 @@ import java.util.stream.Collectors;
  */
 public final class Tailor {
 
+    // Number of consecutive files per job whose analysis may be reordered by size
+    private static final int SCHEDULING_WINDOW_PER_JOB = 2;
+
     public AtomicInteger numSkippedFiles = new AtomicInteger(0);
     public AtomicLong numErrors = new AtomicLong(0);
     public AtomicLong numWarnings = new AtomicLong(0);
     public Configuration configuration;
-    public ConcurrentSkipListSet<Printer> printersForAllFiles = new ConcurrentSkipListSet<>();
 
-    private int numberOfFilesBeforePurge;
-    private AtomicInteger numFiles = new AtomicInteger(0);
+    private AnalysisTier analysisTier = AnalysisTier.TREE;
+    private Optional<ResultCache> resultCache = Optional.empty();
+    private Optional<Profiler> profiler = Optional.empty();
+    private Optional<GitChanges> changedLines = Optional.empty();
+    private Optional<MemoryBudget> memoryBudget = Optional.empty();
+    private Optional<DFACache> dfaCache = Optional.empty();
+    private ListenerRegistry listenerRegistry;
+    private OrderedPrinterQueue printerQueue;
+
+    /**
+     * Exception thrown to end a run with the given exit status. Only {@link #main} terminates the JVM with it,
+     * so that a daemon can keep serving requests after a run exits.
+     */
+    public static final class ExitException extends RuntimeException {
+        private final int status;
+
+        public ExitException(int status) {
+            super("Tailor exited with status " + status);
+            this.status = status;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+    }
 
     /**
      * Non-zero exit status when any violation messages have Severity.ERROR, controlled by --max-severity
@@ -66,7 +110,7 @@ public final class Tailor {
     public static void handleErrorViolations(Formatter formatter, long numErrors) {
         ExitCode exitCode = formatter.getExitStatus(numErrors);
         if (exitCode != ExitCode.SUCCESS) {
-            System.exit(exitCode.ordinal());
+            throw new ExitException(exitCode.ordinal());
         }
     }
 
@@ -76,7 +120,7 @@ public final class Tailor {
     public static void handleCLIException(Exception exception) {
         System.err.println(exception.getMessage());
         Configuration.printHelp();
-        System.exit(ExitCode.failure());
+        throw new ExitException(ExitCode.failure());
     }
 
     /**
@@ -85,7 +129,7 @@ public final class Tailor {
     public static void handleYAMLException(YAMLException exception) {
         System.err.println("Error parsing .tailor.yml:");
         System.err.println(exception.getMessage());
-        System.exit(ExitCode.failure());
+        throw new ExitException(ExitCode.failure());
     }
 
     /**
@@ -93,7 +137,7 @@ public final class Tailor {
      */
     public static void handleIOException(IOException exception) {
         System.err.println("Source file analysis failed. Reason: " + exception.getMessage());
-        System.exit(ExitCode.failure());
+        throw new ExitException(ExitCode.failure());
     }
 
     /**
@@ -101,99 +145,38 @@ public final class Tailor {
      */
     private void exitWithNoSourceFilesError() {
         System.err.println(Messages.NO_SWIFT_FILES_FOUND);
-        configuration.printHelp();
-        System.exit(ExitCode.failure());
-    }
-
-    /**
-     * Creates listeners according to the rules that are enabled.
-     *
-     * @param enabledRules list of enabled rules
-     * @param printer      passed into listener constructors
-     * @param tokenStream  passed into listener constructors
-     * @throws CLIArgumentParserException if listener for an enabled rule is not found
-     */
-    private List<SwiftBaseListener> createListeners(Set<Rules> enabledRules,
-                                                    Printer printer,
-                                                    CommonTokenStream tokenStream,
-                                                    ConstructLengths constructLengths,
-                                                    CommentExtractor commentExtractor)
-        throws CLIArgumentParserException {
-
-        List<SwiftBaseListener> listeners = new LinkedList<>();
-        Set<String> classNames = enabledRules.stream().map(Rules::getClassName).collect(Collectors.toSet());
-        for (String className : classNames) {
-            try {
-
-                if (className.equals(FileListener.class.getName())) {
-                    continue;
-                }
-
-                if (className.equals(CommentWhitespaceListener.class.getName())) {
-                    CommentWhitespaceListener commentWhitespaceListener = new CommentWhitespaceListener(printer,
-                        commentExtractor.getSingleLineComments(), commentExtractor.getMultilineComments());
-                    commentWhitespaceListener.analyze();
-                } else if (className.equals(TodoCommentListener.class.getName())) {
-                    TodoCommentListener todoCommentListener = new TodoCommentListener(printer,
-                        commentExtractor.getSingleLineComments(), commentExtractor.getMultilineComments());
-                    todoCommentListener.analyze();
-                } else if (className.equals(MetaCommentListener.class.getName())) {
-                    MetaCommentListener metaCommentListener = new MetaCommentListener(printer,
-                        commentExtractor.getSingleLineComments(), commentExtractor.getMultilineComments());
-                    metaCommentListener.analyze();
-                } else if (className.equals(BraceStyleListener.class.getName())) {
-                    listeners.add(new BraceStyleListener(printer, tokenStream));
-                } else if (className.equals(BlankLineListener.class.getName())) {
-                    listeners.add(new BlankLineListener(printer, tokenStream));
-                } else {
-                    Constructor listenerConstructor = Class.forName(className).getConstructor(Printer.class);
-                    listeners.add((SwiftBaseListener) listenerConstructor.newInstance(printer));
-                }
-
-            } catch (ReflectiveOperationException e) {
-                throw new CLIArgumentParserException("Listeners were not successfully created: " + e);
-            }
-        }
-
-        listeners.add(new MinLengthListener(printer, constructLengths, enabledRules));
-        listeners.add(new MaxLengthListener(printer, constructLengths, enabledRules));
-
-        return listeners;
+        Configuration.printHelp();
+        throw new ExitException(ExitCode.failure());
     }
 
-    /** Runs SwiftLexer on input file to generate token stream.
+    /** Runs SwiftLexer on buffered input file to generate token stream.
      *
      * @param input Lexer input
+     * @param failOnErrors true if a lexer error should skip the file, false if the lexer should recover from it
      * @return Token stream
      */
-    private Optional<CommonTokenStream> getTokenStream(File input) {
-        try (FileInputStream inputStream = new FileInputStream(input)) {
-            SwiftLexer lexer = new SwiftLexer(new ANTLRInputStream(inputStream));
+    private Optional<CommonTokenStream> getTokenStream(SourceBuffer input, boolean failOnErrors) {
+        try {
+            SwiftLexer lexer = new SwiftLexer(input.newCharStream());
             if (!configuration.debugFlagSet()) {
                 lexer.removeErrorListeners();
-                lexer.addErrorListener(new ErrorListener());
+                if (failOnErrors) {
+                    lexer.addErrorListener(new ErrorListener());
+                }
             }
-            return Optional.of(new CommonTokenStream(lexer));
-        } catch (IOException e) {
-            handleIOException(e);
+            // Store tokens in arrays, and only create token objects for the tokens the parser and rules look at
+            CommonTokenStream tokenStream = new ColumnarTokenStream(lexer);
+            if (profiler.isPresent()) {
+                // Lex the whole file up front, so that lexing is not attributed to the parser
+                tokenStream.fill();
+            }
+            return Optional.of(tokenStream);
         } catch (CLIArgumentParserException e) {
             handleCLIException(e);
         }
         return Optional.empty();
     }
 
-    /**
-     * Clear the DFA cache if --purge option is set.
-     *
-     * @param parser current SwiftParser instance
-     */
-    private void clearDFACache(SwiftParser parser) {
-        numFiles.incrementAndGet();
-        if (numFiles.compareAndSet(numberOfFilesBeforePurge, 0)) {
-            parser.getInterpreter().clearDFA();
-        }
-    }
-
     /**
      * Parse token stream to generate a CST.
      *
@@ -206,70 +189,159 @@ public final class Tailor {
             return tree;
         }
         SwiftParser swiftParser = new SwiftParser(tokenStream.get());
+        swiftParser.setProfile(profiler.isPresent());
+        dfaCache.ifPresent(cache -> cache.track(swiftParser));
         try {
-            if (!configuration.debugFlagSet()) {
-                swiftParser.removeErrorListeners();
-                swiftParser.addErrorListener(new ErrorListener());
-            }
-            tree = Optional.of(swiftParser.topLevel());
+            ANTLRErrorListener errorListener =
+                configuration.debugFlagSet() ? ConsoleErrorListener.INSTANCE : new ErrorListener();
+            tree = Optional.of(ParserUtil.parseTopLevel(swiftParser, errorListener));
         } catch (CLIArgumentParserException e) {
             handleCLIException(e);
-        }
-        if (configuration.shouldClearDFAs()) {
-            clearDFACache(swiftParser);
+        } finally {
+            if (profiler.isPresent()) {
+                profiler.get().recordParseInfo(swiftParser.getParseInfo());
+            }
+            dfaCache.ifPresent(cache -> cache.afterParse(swiftParser));
         }
         return tree;
     }
 
     /**
-     * Walks the provided parse tree using the list of listeners.
+     * Walks the provided parse tree once, dispatching each event to every listener in the list.
      *
      * @param listeners List of parse tree listeners.
      * @param tree Parse tree.
      */
     private void walkParseTree(List<SwiftBaseListener> listeners, TopLevelContext tree) {
         ParseTreeWalker walker = new ParseTreeWalker();
-        listeners.forEach(listener -> walker.walk(listener, tree));
+        if (!profiler.isPresent()) {
+            walker.walk(new CompositeListener(listeners), tree);
+            return;
+        }
+        // Walk the tree once per listener, so that the cost of each listener can be measured on its own
+        for (SwiftBaseListener listener : listeners) {
+            Profiler.Stopwatch stopwatch = profiler.get().start();
+            walker.walk(new CompositeListener(Collections.singletonList(listener)), tree);
+            profiler.get().recordListener(listener.getClass().getSimpleName(), stopwatch);
+        }
     }
 
     /**
-     * Analyzes an individual file by creating the corresponding listeners and walking the file's parse tree.
+     * Runs a comment-based rule, measuring its cost if profiling is enabled.
      *
-     * @param inputFile File to analyze.
-     * @param optTokenStream Common token stream for input file.
-     * @param optTree Parse tree for input file.
-     * @throws CLIArgumentParserException if an error occurs when parsing cmd line arguments
+     * @param analyzer analyzer of the file's comments
      */
-    private void analyzeFile(File inputFile,
-                             Optional<CommonTokenStream> optTokenStream,
-                             Optional<TopLevelContext> optTree,
-                             Formatter formatter,
-                             Severity maxSeverity,
-                             ConstructLengths constructLengths,
-                             Set<Rules> enabledRules)
-        throws CLIArgumentParserException {
+    private void analyzeComments(CommentAnalyzer analyzer) {
+        Optional<Profiler.Stopwatch> stopwatch = startTiming();
+        analyzer.analyze();
+        stopwatch.ifPresent(started -> profiler.get().recordListener(analyzer.getClass().getSimpleName(), started));
+    }
+
+    /**
+     * Starts measuring the current thread if profiling is enabled.
+     *
+     * @return stopwatch to record the measurement with, or empty if profiling is disabled
+     */
+    private Optional<Profiler.Stopwatch> startTiming() {
+        return profiler.map(Profiler::start);
+    }
+
+    /**
+     * Adds the time elapsed since the stopwatch was started to an analysis phase, if profiling is enabled.
+     *
+     * @param phase analysis phase that was measured
+     * @param stopwatch stopwatch returned by {@link #startTiming()}
+     */
+    private void recordPhase(Profiler.Phase phase, Optional<Profiler.Stopwatch> stopwatch) {
+        stopwatch.ifPresent(started -> profiler.get().recordPhase(phase, started));
+    }
 
+    /**
+     * Lexes and parses an individual file, and runs the rules that need its token stream or parse tree by creating
+     * the corresponding listeners and walking the file's parse tree. Neither the token stream nor the parse tree is
+     * referenced once this method returns, so that both can be garbage collected while the file's analysis ends.
+     *
+     * @param source Buffered contents of the file to analyze.
+     * @param printer Printer for the file's violation messages.
+     * @return true if the file was analyzed, false if the token stream or parse tree needed by the enabled rules is
+     *     not available
+     */
+    private boolean analyzeSyntax(SourceBuffer source, Printer printer) {
+
+        // Only run the lexer and parser if the enabled rules need them. Line-based rules still need tokens to
+        // honor suppression comments, but only if the file may contain any. Lexer errors then never skip the file,
+        // so that whether it is analyzed does not depend on the contents of its comments.
+        Optional<CommonTokenStream> optTokenStream = Optional.empty();
+        boolean needsTokens = analysisTier.includes(AnalysisTier.TOKENS);
+        if (needsTokens || ViolationSuppressor.mayContainDirectives(source)) {
+            Optional<Profiler.Stopwatch> stopwatch = startTiming();
+            try {
+                optTokenStream = getTokenStream(source, needsTokens);
+            } finally {
+                recordPhase(Profiler.Phase.LEX, stopwatch);
+            }
+        }
+        Optional<TopLevelContext> optTree = Optional.empty();
+        if (analysisTier.includes(AnalysisTier.TREE)) {
+            Optional<Profiler.Stopwatch> stopwatch = startTiming();
+            try {
+                optTree = getParseTree(optTokenStream);
+            } finally {
+                recordPhase(Profiler.Phase.PARSE, stopwatch);
+            }
+        }
+
+        boolean analyzable = analysisTier.includes(AnalysisTier.TREE) ? optTree.isPresent()
+            : !needsTokens || optTokenStream.isPresent();
+        if (analyzable && optTokenStream.isPresent()) {
+            CommonTokenStream tokenStream = optTokenStream.get();
+            Optional<Profiler.Stopwatch> stopwatch = startTiming();
+            // Without a parser to pull tokens on demand, lex the whole file up front
+            tokenStream.fill();
+
+            // Suppress violations for lines that have been disabled in source code
+            CommentExtractor commentExtractor = new CommentExtractor(tokenStream);
+            ViolationSuppressor disableAnalysis = new ViolationSuppressor(printer, commentExtractor);
+            disableAnalysis.analyze();
+            recordPhase(Profiler.Phase.COMMENTS, stopwatch);
+
+            // Generate listeners
+            if (needsTokens) {
+                stopwatch = startTiming();
+                for (CommentAnalyzer analyzer : listenerRegistry.createCommentAnalyzers(printer, commentExtractor)) {
+                    analyzeComments(analyzer);
+                }
+                List<SwiftBaseListener> listeners = listenerRegistry.createListeners(printer, tokenStream);
+                if (optTree.isPresent()) {
+                    walkParseTree(listeners, optTree.get());
+                }
+                recordPhase(Profiler.Phase.LISTENERS, stopwatch);
+            }
+        }
+        return analyzable;
+    }
+
+    /**
+     * Finishes the analysis of an individual file with the line-based rules, which only need its buffered contents,
+     * and queues its printer for display.
+     *
+     * @param source Buffered contents of the file to analyze.
+     * @param printer Printer holding the violation messages found by {@link #analyzeSyntax}.
+     * @param analyzable Result of {@link #analyzeSyntax}.
+     */
+    private void analyzeFile(SourceBuffer source,
+                             Printer printer,
+                             boolean analyzable,
+                             ConstructLengths constructLengths,
+                             Set<Rules> enabledRules) {
         try {
-            Printer printer = new Printer(inputFile, maxSeverity, formatter);
-            if (optTokenStream.isPresent() && optTree.isPresent()) {
-                CommonTokenStream tokenStream = optTokenStream.get();
-                TopLevelContext tree = optTree.get();
-
-                // Suppress violations for lines that have been disabled in source code
-                CommentExtractor commentExtractor = new CommentExtractor(tokenStream);
-                ViolationSuppressor disableAnalysis = new ViolationSuppressor(printer,
-                    commentExtractor.getSingleLineComments(),
-                    commentExtractor.getMultilineComments());
-                disableAnalysis.analyze();
-
-                // Generate listeners
-                List<SwiftBaseListener> listeners =
-                    createListeners(enabledRules, printer, tokenStream, constructLengths, commentExtractor);
-                walkParseTree(listeners, tree);
+            if (analyzable) {
+                Optional<Profiler.Stopwatch> stopwatch = startTiming();
                 try (FileListener fileListener =
-                         new FileListener(printer, inputFile, constructLengths, enabledRules)) {
+                         new FileListener(printer, source, constructLengths, enabledRules)) {
                     fileListener.verify();
                 }
+                recordPhase(Profiler.Phase.FILE_LISTENER, stopwatch);
 
                 numErrors.addAndGet(printer.getNumErrorMessages());
                 numWarnings.addAndGet(printer.getNumWarningMessages());
@@ -277,11 +349,105 @@ public final class Tailor {
             } else {
                 printer.setShouldPrintParseErrorMessage(true);
             }
-            printersForAllFiles.add(printer);
+            cacheResult(source, printer);
+            queuePrinter(printer);
         } catch (IOException e) {
             handleIOException(e);
-        } catch (CLIArgumentParserException e) {
-            handleCLIException(e);
+        }
+    }
+
+    /**
+     * Waits until the --max-heap-budget leaves room for the parse tree and token stream of a file, if set.
+     *
+     * @param source Buffered contents of the file to analyze.
+     * @return reservation to close once the file's parse tree and token stream are released, or empty if no budget
+     *     is set
+     */
+    private Optional<MemoryBudget.Reservation> reserveMemory(SourceBuffer source) {
+        if (!memoryBudget.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(memoryBudget.get().reserve(source.length()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExitException(ExitCode.failure());
+        }
+    }
+
+    /**
+     * Replays the cached analysis result of a file, if the result cache is enabled and holds an entry for it.
+     *
+     * @param source Buffered contents of the file to look up in the result cache.
+     * @return true if a cached result was used, false if the file needs to be analyzed
+     */
+    private boolean replayCachedResult(SourceBuffer source, Severity maxSeverity, Formatter formatter) {
+        if (!resultCache.isPresent()) {
+            return false;
+        }
+        Printer printer = createPrinter(source.getFile(), maxSeverity, formatter);
+        Optional<Profiler.Stopwatch> stopwatch = startTiming();
+        boolean replayed = resultCache.get().replay(source, printer);
+        recordPhase(Profiler.Phase.CACHE, stopwatch);
+        if (!replayed) {
+            return false;
+        }
+        if (printer.shouldPrintParseErrorMessage()) {
+            formatter.printProgressInfo("S");
+            numSkippedFiles.incrementAndGet();
+        } else {
+            numErrors.addAndGet(printer.getNumErrorMessages());
+            numWarnings.addAndGet(printer.getNumWarningMessages());
+            formatter.printProgressInfo(".");
+        }
+        queuePrinter(printer);
+        return true;
+    }
+
+    /**
+     * Creates the printer for a file, which only displays violations on changed lines if --changed-lines-only is set.
+     *
+     * @param file File whose violation messages are printed.
+     * @return printer for the file
+     */
+    private Printer createPrinter(File file, Severity maxSeverity, Formatter formatter) {
+        Printer printer = new Printer(file, maxSeverity, formatter);
+        if (changedLines.isPresent()) {
+            try {
+                changedLines.get().restrictToChangedLines(printer);
+            } catch (IOException e) {
+                handleIOException(e);
+            }
+        }
+        return printer;
+    }
+
+    /**
+     * Hands the printer of an analyzed file to the printer queue, which displays its messages in file order.
+     *
+     * @param printer Printer holding the file's violation messages.
+     */
+    private void queuePrinter(Printer printer) {
+        Optional<Profiler.Stopwatch> stopwatch = startTiming();
+        try {
+            printerQueue.add(printer);
+        } catch (IOException e) {
+            handleIOException(e);
+        }
+        recordPhase(Profiler.Phase.OUTPUT, stopwatch);
+    }
+
+    /**
+     * Stores the analysis result of a file in the result cache, if enabled.
+     *
+     * @param source Buffered contents of the file that was analyzed.
+     * @param printer Printer holding the file's violation messages.
+     */
+    private void cacheResult(SourceBuffer source, Printer printer) {
+        if (resultCache.isPresent()) {
+            Optional<Profiler.Stopwatch> stopwatch = startTiming();
+            resultCache.get().store(source, printer);
+            recordPhase(Profiler.Phase.CACHE, stopwatch);
         }
     }
 
@@ -300,71 +466,269 @@ public final class Tailor {
         ConstructLengths constructLengths = configuration.parseConstructLengths();
         Set<Rules> enabledRules = configuration.getEnabledRules();
 
-        numberOfFilesBeforePurge = configuration.numberOfFilesBeforePurge();
+        // --purge no longer clears the DFA cache every few files, but still keeps it bounded
+        boolean purge = configuration.numberOfFilesBeforePurge() > 0;
+        if (purge) {
+            System.err.println(Messages.PURGE_DEPRECATED);
+        }
+        if (configuration.shouldUseCache()) {
+            String fingerprint = ResultCache.fingerprint(enabledRules, constructLengths, maxSeverity,
+                configuration.debugFlagSet(), new ConfigProperties().getVersion());
+            resultCache = Optional.of(new ResultCache(configuration.getCacheDirectory(), fingerprint));
+            resultCache.get().prune();
+        }
 
-        List<File> files = fileNames.parallelStream().map(File::new).collect(Collectors.toList());
+        List<File> files = fileNames.parallelStream().map(File::new).sorted().collect(Collectors.toList());
+        printerQueue = new OrderedPrinterQueue(files, formatter.canDisplayWhileAnalyzing());
         formatter.printProgressInfo(
             String.format("Analyzing %s:%n", Formatter.pluralize(fileNames.size(), "file", "files")));
 
-        files.parallelStream().forEach(
-            file -> {
-                try {
-                    Optional<CommonTokenStream> tokenStream = getTokenStream(file);
-                    Optional<TopLevelContext> tree = getParseTree(tokenStream);
-                    analyzeFile(file, tokenStream, tree, formatter, maxSeverity, constructLengths, enabledRules);
-                    formatter.printProgressInfo(".");
-                } catch (ErrorListener.ParseException e) {
-                    formatter.printProgressInfo("S");
-                    Printer printer = new Printer(file, maxSeverity, formatter);
-                    printer.setShouldPrintParseErrorMessage(true);
-                    printersForAllFiles.add(printer);
-                    numSkippedFiles.incrementAndGet();
-                } catch (CLIArgumentParserException e) {
-                    handleCLIException(e);
-                }
-            });
+        analysisTier = AnalysisTier.requiredBy(enabledRules);
+        listenerRegistry = new ListenerRegistry(enabledRules, constructLengths);
+        memoryBudget = configuration.getMemoryBudget();
+        if (memoryBudget.isPresent()) {
+            dfaCache = Optional.of(new DFACache(memoryBudget.get().getDFAShare()));
+        } else if (purge) {
+            dfaCache = Optional.of(new DFACache(DFACache.defaultHighWaterMark()));
+        }
+        if (configuration.shouldProfile()) {
+            profiler = Optional.of(new Profiler());
+        }
+        int jobs = configuration.numberOfJobs();
+        ExecutorService executor = Executors.newWorkStealingPool(jobs);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (File file : orderForAnalysis(files, SCHEDULING_WINDOW_PER_JOB * jobs)) {
+            tasks.add(executor.submit(
+                () -> processFile(file, formatter, maxSeverity, constructLengths, enabledRules)));
+        }
+        try {
+            awaitTasks(tasks);
+        } finally {
+            executor.shutdownNow();
+        }
         formatter.printProgressInfo(String.format("%n"));
 
-        printersForAllFiles.forEach(printer -> {
-                try {
-                    printer.printAllMessages();
-                } catch (IOException e) {
-                    handleIOException(e);
-                }
-            });
+        Optional<Profiler.Stopwatch> stopwatch = startTiming();
+        printerQueue.flush();
 
         formatter.displaySummary(fileNames.size(), numSkippedFiles.get(), numErrors.get(), numWarnings.get());
+        recordPhase(Profiler.Phase.OUTPUT, stopwatch);
+        reportProfile();
         handleErrorViolations(formatter, numErrors.get());
     }
 
+    /**
+     * Orders files for analysis. Messages are displayed in the order of the files, so files are analyzed in that
+     * order too, to let their messages be displayed, and their printers released, while later files are analyzed.
+     * Only within each window of consecutive files are the largest files started first, so that they do not leave
+     * a long tail at the end of the window.
+     *
+     * @param files files in the order their messages are displayed
+     * @param window number of consecutive files that may be reordered by size
+     * @return files in the order to analyze them
+     */
+    static List<File> orderForAnalysis(List<File> files, int window) {
+        Map<File, Long> fileSizes = files.stream().collect(Collectors.toMap(Function.identity(), File::length));
+        List<File> ordered = new ArrayList<>(files.size());
+        for (int start = 0; start < files.size(); start += window) {
+            List<File> windowFiles = new ArrayList<>(files.subList(start, Math.min(start + window, files.size())));
+            windowFiles.sort((file1, file2) -> Long.compare(fileSizes.get(file2), fileSizes.get(file1)));
+            ordered.addAll(windowFiles);
+        }
+        return ordered;
+    }
+
+    /**
+     * Writes the profiling report to the file specified with --profile-file, or to standard error, so that it does
+     * not interfere with the formatted output.
+     *
+     * @throws IOException if the report file cannot be written
+     */
+    private void reportProfile() throws IOException {
+        if (!profiler.isPresent()) {
+            return;
+        }
+        Optional<Path> profileFile = configuration.getProfileFile();
+        if (profileFile.isPresent()) {
+            profiler.get().writeReport(profileFile.get());
+        } else {
+            profiler.get().printReport(System.err);
+        }
+    }
+
+    /**
+     * Analyzes a single file, or replays its cached analysis result, and queues its printer for display.
+     *
+     * @param file File to analyze.
+     */
+    private void processFile(File file,
+                             Formatter formatter,
+                             Severity maxSeverity,
+                             ConstructLengths constructLengths,
+                             Set<Rules> enabledRules) {
+        Optional<Profiler.Stopwatch> fileStopwatch = startTiming();
+        // Read the file once, and share its contents between the result cache, the lexer and the file listener
+        SourceBuffer source;
+        try {
+            source = SourceBuffer.read(file);
+        } catch (IOException e) {
+            handleIOException(e);
+            return;
+        }
+        recordPhase(Profiler.Phase.READ, fileStopwatch);
+        try {
+            if (replayCachedResult(source, maxSeverity, formatter)) {
+                return;
+            }
+            Printer printer = createPrinter(file, maxSeverity, formatter);
+            boolean analyzable;
+            // Hold the file's share of the memory budget only while its token stream and parse tree are in use
+            Optional<MemoryBudget.Reservation> reservation = reserveMemory(source);
+            try {
+                analyzable = analyzeSyntax(source, printer);
+            } finally {
+                reservation.ifPresent(MemoryBudget.Reservation::close);
+            }
+            analyzeFile(source, printer, analyzable, constructLengths, enabledRules);
+            formatter.printProgressInfo(".");
+        } catch (ErrorListener.ParseException e) {
+            formatter.printProgressInfo("S");
+            Printer printer = createPrinter(file, maxSeverity, formatter);
+            printer.setShouldPrintParseErrorMessage(true);
+            cacheResult(source, printer);
+            numSkippedFiles.incrementAndGet();
+            queuePrinter(printer);
+        } finally {
+            fileStopwatch.ifPresent(started -> profiler.get().recordFile(file, started));
+        }
+    }
+
+    /**
+     * Waits for all analysis tasks to complete, rethrowing the first exception thrown by any of them.
+     *
+     * @param tasks analysis tasks
+     */
+    private static void awaitTasks(List<Future<?>> tasks) {
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExitException(ExitCode.failure());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    /**
+     * Combines the JSON reports of several runs, such as the shards of a project analyzed with --shard, and writes
+     * the combined report to standard output.
+     *
+     * @param reports paths of the reports to combine
+     * @throws ExitException with a non-zero status if the combined report has errors, or cannot be created
+     */
+    private static void mergeReports(String[] reports) {
+        if (reports.length == 0) {
+            System.err.println(Messages.NO_REPORTS_TO_MERGE);
+            System.err.println(Messages.SYNTAX_PREFIX + Messages.MERGE_SYNTAX);
+            throw new ExitException(ExitCode.failure());
+        }
+        JSONMerger merger = new JSONMerger();
+        try {
+            for (String report : reports) {
+                merger.add(Paths.get(report));
+            }
+        } catch (IOException e) {
+            System.err.println(Messages.MERGE_FAILED + e.getMessage());
+            throw new ExitException(ExitCode.failure());
+        }
+        try {
+            merger.write(System.out);
+        } catch (IOException e) {
+            handleIOException(e);
+        }
+        System.out.flush();
+        handleErrorViolations(new JSONFormatter(new ColorSettings(false, false)), merger.getNumErrors());
+    }
+
     /**
      * Main runner for Tailor.
      *
      * @param args command line arguments
      */
     public static void main(String[] args) {
+        try {
+            run(args, true);
+        } catch (ExitException e) {
+            System.exit(e.getStatus());
+        }
+    }
+
+    /**
+     * Runs Tailor with the given command line arguments.
+     *
+     * @param args command line arguments
+     * @param allowDaemonModes whether the --daemon and --client options may be used
+     * @throws ExitException if the run ends with an explicit exit status
+     */
+    public static void run(String[] args, boolean allowDaemonModes) {
+        if (args.length > 0 && args[0].equals(Messages.MERGE_COMMAND)) {
+            mergeReports(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         Tailor tailor = new Tailor();
 
         try {
             tailor.configuration = new Configuration(args);
+            if (!allowDaemonModes && tailor.configuration.shouldWriteFiles()) {
+                throw new CLIArgumentParserException(Messages.FILE_OPTIONS_NOT_ALLOWED);
+            }
 
             if (tailor.configuration.shouldPrintHelp()) {
-                tailor.configuration.printHelp();
-                System.exit(ExitCode.success());
+                Configuration.printHelp();
+                throw new ExitException(ExitCode.success());
             }
             if (tailor.configuration.shouldPrintVersion()) {
                 System.out.println(new ConfigProperties().getVersion());
-                System.exit(ExitCode.success());
+                throw new ExitException(ExitCode.success());
             }
             if (tailor.configuration.shouldPrintRules()) {
                 Printer.printRules();
-                System.exit(ExitCode.success());
+                throw new ExitException(ExitCode.success());
             }
 
             // Exit program after configuring Xcode project
             String xcodeprojPath = tailor.configuration.getXcodeprojPath();
             if (xcodeprojPath != null) {
-                System.exit(XcodeIntegrator.setupXcode(xcodeprojPath));
+                throw new ExitException(XcodeIntegrator.setupXcode(xcodeprojPath));
+            }
+
+            if (tailor.configuration.shouldStartDaemon() || tailor.configuration.shouldRunClient()) {
+                if (!allowDaemonModes) {
+                    throw new CLIArgumentParserException(Messages.DAEMON_MODES_NOT_ALLOWED);
+                }
+                int port = tailor.configuration.getDaemonPort();
+                if (!tailor.configuration.shouldRunClient()) {
+                    new TailorDaemon(port).serve();
+                    return;
+                }
+                // The daemon rejects options that write files, so run those in this process
+                Optional<Integer> status = tailor.configuration.shouldWriteFiles()
+                    ? Optional.empty() : new TailorClient(port).send(args);
+                if (status.isPresent()) {
+                    if (status.get() != ExitCode.success()) {
+                        throw new ExitException(status.get());
+                    }
+                    return;
+                }
+                // Analyze files in this process if no daemon is available
             }
 
             Set<String> fileNames = tailor.configuration.getFilesToAnalyze();
@@ -372,10 +736,27 @@ public final class Tailor {
                 tailor.exitWithNoSourceFilesError();
             }
 
+            // Only analyze files changed since the given revision, which may leave no files to analyze
+            boolean changedLinesOnly = tailor.configuration.shouldOnlyShowChangedLines();
+            Optional<String> sinceRevision = tailor.configuration.getSinceRevision();
+            if (sinceRevision.isPresent()) {
+                GitChanges gitChanges = GitChanges.since(sinceRevision.get());
+                fileNames = gitChanges.filter(fileNames);
+                if (changedLinesOnly) {
+                    tailor.changedLines = Optional.of(gitChanges);
+                }
+            }
+
+            // Only analyze this machine's share of the files if the analysis is split across several machines
+            Optional<Shard> shard = tailor.configuration.getShard();
+            if (shard.isPresent()) {
+                fileNames = shard.get().select(fileNames);
+            }
+
             if (tailor.configuration.shouldListFiles()) {
                 System.out.println(Messages.FILES_TO_BE_ANALYZED);
                 fileNames.forEach(System.out::println);
-                System.exit(ExitCode.success());
+                throw new ExitException(ExitCode.success());
             }
 
             tailor.analyzeFiles(fileNames);
@@ -0,0 +1,36 @@
+package com.sleekbyte.tailor.common;
+
+import java.util.Comparator;
+import java.util.Set;
+
+/**
+ * Levels of analysis needed by {@link Rules}, ordered from cheapest to most expensive.
+ */
+public enum AnalysisTier {
+    // Rules that only inspect the raw lines of a file
+    LINES,
+    // Rules that inspect the tokens produced by the lexer, such as comments
+    TOKENS,
+    // Rules that walk the parse tree
+    TREE;
+
+    /**
+     * Checks whether this tier provides everything needed by rules of another tier.
+     *
+     * @param other tier to compare against
+     * @return true if this tier is at least as thorough as the other one
+     */
+    public boolean includes(AnalysisTier other) {
+        return compareTo(other) >= 0;
+    }
+
+    /**
+     * Determines the cheapest tier that covers all of the specified rules.
+     *
+     * @param rules set of enabled rules
+     * @return highest tier required by any of the rules
+     */
+    public static AnalysisTier requiredBy(Set<Rules> rules) {
+        return rules.stream().map(Rules::getTier).max(Comparator.naturalOrder()).orElse(LINES);
+    }
+}
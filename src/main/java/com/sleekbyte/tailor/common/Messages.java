@@ -124,6 +124,7 @@ public abstract class Messages {
 
     // Usage messages
     public static final String CMD_LINE_SYNTAX = "tailor [options] [--] [[file|directory] ...]";
+    public static final String MERGE_SYNTAX = "tailor merge [report.json ...]";
     public static final String TAILOR_DESC = "Perform static analysis on Swift source files.";
     public static final String TAILOR_ARGS_INFO =
         "Invoking Tailor with at least one file or directory will analyze all Swift files at those paths."
@@ -157,12 +158,30 @@ public abstract class Messages {
     public static final String CONFIG_FILE_DESC = "specify configuration file";
     public static final String LIST_FILES_DESC = "display Swift source files to be analyzed";
     public static final String FORMAT_DESC = "select an output format";
-    public static final String PURGE_DESC = "reduce memory usage by clearing DFA cache after specified number "
-        + "of files are parsed";
+    public static final String PURGE_DESC = "deprecated, trims the DFA cache once it outgrows a quarter of the maximum "
+        + "heap instead of clearing it every N files, use --max-heap-budget to set the limit";
+    public static final String CACHE_DESC = "reuse analysis results of unchanged files from the .tailor-cache "
+        + "directory";
+    public static final String JOBS_DESC = "number of files to analyze in parallel (default: number of processors)";
+    public static final String MAX_HEAP_BUDGET_DESC = "limit the memory used by parse trees and the DFA cache, "
+        + "by delaying files and clearing the DFA cache as needed";
+    public static final String DAEMON_DESC = "keep running and analyze files on behalf of Tailor clients";
+    public static final String CLIENT_DESC = "send analysis to a running Tailor daemon, or analyze locally if none "
+        + "is available";
+    public static final String DAEMON_PORT_DESC = "loopback port used by --daemon and --client (default 4949)";
+    public static final String PROFILE_DESC = "print time spent in each analysis phase and rule to standard error";
+    public static final String PROFILE_FILE_DESC = "write profiling report in JSON format to the specified file";
+    public static final String SINCE_DESC = "only analyze files changed in the local git working tree since the "
+        + "specified revision";
+    public static final String CHANGED_LINES_ONLY_DESC = "only display violations on lines changed since the revision "
+        + "specified by --since";
+    public static final String SHARD_DESC = "only analyze the i-th of n shards of the files, balanced by file size "
+        + "(combine JSON reports with 'tailor merge')";
 
     // Runtime messages
     public static final String TAILOR_CONFIG_LOCATION = "Using Tailor configuration file at: ";
     public static final String FILES_TO_BE_ANALYZED = "Files to be analyzed:";
+    public static final String DAEMON_LISTENING = "Tailor daemon listening on port ";
 
     // JSON Format messages
     public static final String LOCATION_KEY = "location";
@@ -208,6 +227,23 @@ public abstract class Messages {
     // Error messages
     public static final String NO_SWIFT_FILES_FOUND = "No Swift source files were found.";
     public static final String COULD_NOT_BE_PARSED = " could not be parsed successfully, skipping...";
+    public static final String DAEMON_MODES_NOT_ALLOWED = "--daemon and --client cannot be sent to a Tailor daemon.";
+    public static final String FILE_OPTIONS_NOT_ALLOWED = "--xcode, --profile-file and --cache cannot be sent to a "
+        + "Tailor daemon.";
+    public static final String INVALID_DAEMON_PORT = "Invalid port specified for daemon.";
+    public static final String INVALID_MAX_HEAP_BUDGET = "Invalid number of megabytes specified for max heap budget.";
+    public static final String CHANGED_LINES_ONLY_REQUIRES_SINCE = "--changed-lines-only requires --since.";
+    public static final String INVALID_SINCE_REVISION = "Invalid revision specified for --since, revisions cannot "
+        + "start with '-'.";
+    public static final String INVALID_SHARD = "Invalid shard specified, expected i/n with 1 <= i <= n.";
+    public static final String NO_REPORTS_TO_MERGE = "No JSON reports were provided to merge.";
+    public static final String MERGE_FAILED = "JSON reports could not be merged. Reason: ";
+    public static final String INVALID_REPORT = "not a report produced by Tailor's JSON formatter";
+    public static final String ALREADY_MERGED = " is listed by more than one report";
+
+    // Deprecation warnings
+    public static final String PURGE_DEPRECATED = "Warning: --purge and the purge label are deprecated, the DFA cache "
+        + "is trimmed once it outgrows a quarter of the maximum heap instead, use --max-heap-budget to set the limit.";
 
     // Tailor disable feature warnings
     public static final String ON_OFF_MISMATCH = "Tailor block disable comments are unbalanced";
@@ -244,6 +280,18 @@ public abstract class Messages {
     public static final String FORMAT_SHORT_OPT = "f";
     public static final String FORMAT_LONG_OPT = "format";
     public static final String PURGE_OPT = "purge";
+    public static final String CACHE_OPT = "cache";
+    public static final String JOBS_OPT = "jobs";
+    public static final String MAX_HEAP_BUDGET_OPT = "max-heap-budget";
+    public static final String DAEMON_OPT = "daemon";
+    public static final String CLIENT_OPT = "client";
+    public static final String DAEMON_PORT_OPT = "daemon-port";
+    public static final String PROFILE_OPT = "profile";
+    public static final String PROFILE_FILE_OPT = "profile-file";
+    public static final String SINCE_OPT = "since";
+    public static final String CHANGED_LINES_ONLY_OPT = "changed-lines-only";
+    public static final String SHARD_OPT = "shard";
+    public static final String MERGE_COMMAND = "merge";
     public static final String INVALID_OPTION_VALUE = "Invalid value provided for option ";
 
     // Config options
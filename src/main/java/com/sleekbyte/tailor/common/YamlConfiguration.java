@@ -22,8 +22,11 @@ public final class YamlConfiguration {
     private boolean debug = false;
     private String color = "";
     private int purge = 0;
+    private boolean cache = false;
+    private int jobs = 0;
 
     private boolean purgeSet = false;
+    private boolean jobsSet = false;
 
     public String getFormat() {
         return format;
@@ -61,6 +64,14 @@ public final class YamlConfiguration {
         return purge;
     }
 
+    public boolean isCache() {
+        return cache;
+    }
+
+    public int getJobs() {
+        return jobs;
+    }
+
     public void setFileLocation(String fileLocation) {
         this.fileLocation = Optional.ofNullable(fileLocation);
     }
@@ -93,6 +104,10 @@ public final class YamlConfiguration {
         this.color = color;
     }
 
+    public void setCache(boolean cache) {
+        this.cache = cache;
+    }
+
     public void setPurge(int purge) {
         this.purge = purge;
         purgeSet = true;
@@ -102,4 +117,13 @@ public final class YamlConfiguration {
         return purgeSet;
     }
 
+    public void setJobs(int jobs) {
+        this.jobs = jobs;
+        jobsSet = true;
+    }
+
+    public boolean isJobsSet() {
+        return jobsSet;
+    }
+
 }
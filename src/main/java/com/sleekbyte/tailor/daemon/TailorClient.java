@@ -0,0 +1,128 @@
+package com.sleekbyte.tailor.daemon;
+
+import com.sleekbyte.tailor.common.Messages;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Thin front end that forwards a Tailor invocation to a running {@link TailorDaemon} and relays its output.
+ */
+public final class TailorClient {
+
+    private static final int CONNECT_TIMEOUT_MS = 500;
+    private static final String CLIENT_ARG = "--" + Messages.CLIENT_OPT;
+
+    private int port;
+    private Path tokenDirectory;
+    private PrintStream out;
+    private PrintStream err;
+
+    /**
+     * Constructs a client that relays daemon output to standard output and error.
+     *
+     * @param port loopback port of the daemon
+     */
+    public TailorClient(int port) {
+        this(port, TailorDaemon.DEFAULT_TOKEN_DIRECTORY, System.out, System.err);
+    }
+
+    /**
+     * Constructs a client that relays daemon output to the specified streams.
+     *
+     * @param port loopback port of the daemon
+     * @param tokenDirectory directory of the file that the daemon's token is read from
+     * @param out stream that receives the daemon's standard output
+     * @param err stream that receives the daemon's standard error
+     */
+    public TailorClient(int port, Path tokenDirectory, PrintStream out, PrintStream err) {
+        this.port = port;
+        this.tokenDirectory = tokenDirectory;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Sends the command line arguments to the daemon and relays its output until the daemon finishes.
+     *
+     * @param args command line arguments of the client
+     * @return exit status of the analysis, or empty if no daemon of this user serves the current working directory
+     * @throws IOException if communication with the daemon fails after it accepted the request
+     */
+    public Optional<Integer> send(String[] args) throws IOException {
+        String token;
+        try {
+            token = new String(Files.readAllBytes(TailorDaemon.getTokenFile(tokenDirectory, port)),
+                StandardCharsets.US_ASCII).trim();
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), CONNECT_TIMEOUT_MS);
+        } catch (IOException e) {
+            socket.close();
+            return Optional.empty();
+        }
+
+        try (Socket connection = socket) {
+            DataOutputStream request = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+            List<String> daemonArgs = Arrays.stream(args).filter(arg -> !arg.equals(CLIENT_ARG))
+                .collect(Collectors.toList());
+            request.writeUTF(token);
+            request.writeUTF(new File(".").getCanonicalPath());
+            request.writeBoolean(System.console() != null);
+            request.writeInt(daemonArgs.size());
+            for (String arg : daemonArgs) {
+                request.writeUTF(arg);
+            }
+            request.flush();
+
+            DataInputStream response = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+            while (true) {
+                byte frameType = response.readByte();
+                switch (frameType) {
+                    case TailorDaemon.STDOUT_FRAME:
+                        relayFrame(response, out);
+                        break;
+                    case TailorDaemon.STDERR_FRAME:
+                        relayFrame(response, err);
+                        break;
+                    case TailorDaemon.EXIT_FRAME:
+                        out.flush();
+                        err.flush();
+                        return Optional.of(response.readInt());
+                    case TailorDaemon.REJECTED_FRAME:
+                        return Optional.empty();
+                    default:
+                        throw new IOException("Unexpected response from Tailor daemon.");
+                }
+            }
+        }
+    }
+
+    private static void relayFrame(DataInputStream response, PrintStream stream) throws IOException {
+        byte[] bytes = new byte[response.readInt()];
+        response.readFully(bytes);
+        stream.write(bytes, 0, bytes.length);
+        stream.flush();
+    }
+
+}
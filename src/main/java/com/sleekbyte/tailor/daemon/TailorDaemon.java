@@ -0,0 +1,269 @@
+package com.sleekbyte.tailor.daemon;
+
+import com.sleekbyte.tailor.Tailor;
+import com.sleekbyte.tailor.common.ExitCode;
+import com.sleekbyte.tailor.common.Messages;
+import org.fusesource.jansi.AnsiOutputStream;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+
+/**
+ * Long-running Tailor process that analyzes files on behalf of {@link TailorClient}s, so that the JVM, the loaded
+ * rule listeners and the parser's DFA cache stay warm across runs.
+ *
+ * <p>The daemon listens on a loopback port and serves one request at a time. A request consists of a secret token,
+ * the client's working directory, whether the client's standard output is a terminal, and the client's command line
+ * arguments. The token is generated when the daemon starts and written to a file that only the daemon's user can
+ * read, so that other users on the same machine cannot run Tailor under the daemon's account. The daemon only serves
+ * clients running in its own working directory, so that relative paths and configuration files resolve identically,
+ * and rejects options that write to files other than its output. Output is streamed back as frames, each tagged with
+ * a frame type, followed by a final frame carrying the exit status.</p>
+ */
+public final class TailorDaemon implements Closeable {
+
+    public static final int DEFAULT_PORT = 4949;
+    public static final int MIN_PORT = 1024;
+    public static final int MAX_PORT = 65535;
+    public static final Path DEFAULT_TOKEN_DIRECTORY = Paths.get(System.getProperty("user.home"), ".tailor");
+
+    // Frame types sent from the daemon to its clients
+    static final byte STDOUT_FRAME = 1;
+    static final byte STDERR_FRAME = 2;
+    static final byte EXIT_FRAME = 3;
+    static final byte REJECTED_FRAME = 4;
+
+    private static final int BACKLOG = 50;
+    private static final int TOKEN_BYTES = 32;
+    private static final int REQUEST_TIMEOUT_MS = 5000;
+    private static final String OWNER_ONLY_DIRECTORY = "rwx------";
+    private static final String OWNER_ONLY_FILE = "rw-------";
+
+    private int port;
+    private Path tokenFile;
+    private String token;
+    private String workingDirectory;
+    private ServerSocket serverSocket;
+
+    /**
+     * Output stream that sends everything written to it as frames of a single type.
+     */
+    private static final class FrameOutputStream extends OutputStream {
+        private DataOutputStream out;
+        private byte frameType;
+
+        FrameOutputStream(DataOutputStream out, byte frameType) {
+            this.out = out;
+            this.frameType = frameType;
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            write(new byte[]{(byte) value}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            synchronized (out) {
+                out.writeByte(frameType);
+                out.writeInt(length);
+                out.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (out) {
+                out.flush();
+            }
+        }
+    }
+
+    /**
+     * Constructs a daemon that serves clients on the specified loopback port.
+     *
+     * @param port loopback port to listen on
+     * @throws IOException if the working directory of the daemon cannot be resolved
+     */
+    public TailorDaemon(int port) throws IOException {
+        this(port, DEFAULT_TOKEN_DIRECTORY);
+    }
+
+    /**
+     * Constructs a daemon that serves clients on the specified loopback port, and writes its token to the specified
+     * directory.
+     *
+     * @param port           loopback port to listen on
+     * @param tokenDirectory directory of the file that clients read the daemon's token from
+     * @throws IOException if the working directory of the daemon cannot be resolved
+     */
+    TailorDaemon(int port, Path tokenDirectory) throws IOException {
+        this.port = port;
+        this.tokenFile = getTokenFile(tokenDirectory, port);
+        this.workingDirectory = new File(".").getCanonicalPath();
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        this.token = hex.toString();
+    }
+
+    /**
+     * Returns the file that the token of the daemon listening on the specified port is written to.
+     *
+     * @param tokenDirectory directory of the token file
+     * @param port           loopback port of the daemon
+     * @return path of the token file
+     */
+    static Path getTokenFile(Path tokenDirectory, int port) {
+        return tokenDirectory.resolve("daemon-" + port + ".token");
+    }
+
+    /**
+     * Serves client requests until the daemon is closed.
+     *
+     * @throws IOException if the daemon cannot listen on its port
+     */
+    public void serve() throws IOException {
+        synchronized (this) {
+            serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+        }
+        writeToken();
+        System.err.println(Messages.DAEMON_LISTENING + port);
+        while (!serverSocket.isClosed()) {
+            try (Socket socket = serverSocket.accept()) {
+                handle(socket);
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Error in serving Tailor client: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (serverSocket != null) {
+            serverSocket.close();
+            Files.deleteIfExists(tokenFile);
+        }
+    }
+
+    /**
+     * Writes the token of the daemon to a file that is created readable and writable by the daemon's user only.
+     *
+     * @throws IOException if the token file cannot be written
+     */
+    private void writeToken() throws IOException {
+        Files.deleteIfExists(tokenFile);
+        Path directory = tokenFile.getParent();
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            if (!Files.isDirectory(directory)) {
+                Files.createDirectories(directory,
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(OWNER_ONLY_DIRECTORY)));
+            }
+            Files.createFile(tokenFile,
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(OWNER_ONLY_FILE)));
+        } else {
+            Files.createDirectories(directory);
+            Files.createFile(tokenFile);
+            File file = tokenFile.toFile();
+            file.setReadable(false, false);
+            file.setReadable(true, true);
+            file.setWritable(false, false);
+            file.setWritable(true, true);
+        }
+        Files.write(tokenFile, token.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Runs Tailor for a single client request, with standard output and error redirected to the client.
+     *
+     * @param socket connection to the client
+     * @throws IOException if communication with the client fails
+     */
+    private void handle(Socket socket) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+        // Only wait a bounded time for the request, so that a client that never sends one cannot block the daemon
+        socket.setSoTimeout(REQUEST_TIMEOUT_MS);
+        byte[] clientToken = in.readUTF().getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(token.getBytes(StandardCharsets.US_ASCII), clientToken)) {
+            out.writeByte(REJECTED_FRAME);
+            out.flush();
+            return;
+        }
+
+        String clientDirectory = in.readUTF();
+        final boolean terminal = in.readBoolean();
+        String[] args = new String[in.readInt()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = in.readUTF();
+        }
+        socket.setSoTimeout(0);
+
+        if (!workingDirectory.equals(clientDirectory)) {
+            out.writeByte(REJECTED_FRAME);
+            out.flush();
+            return;
+        }
+
+        // Jansi only strips ANSI escape codes for the daemon's own console, so strip them here for clients
+        // whose output is not a terminal
+        OutputStream clientOut = new FrameOutputStream(out, STDOUT_FRAME);
+        if (!terminal) {
+            clientOut = new AnsiOutputStream(clientOut);
+        }
+        String charset = Charset.defaultCharset().name();
+        PrintStream requestOut = new PrintStream(clientOut, true, charset);
+        PrintStream requestErr = new PrintStream(new FrameOutputStream(out, STDERR_FRAME), true, charset);
+
+        PrintStream stdout = System.out;
+        PrintStream stderr = System.err;
+        int status = ExitCode.success();
+        System.setOut(requestOut);
+        System.setErr(requestErr);
+        try {
+            Tailor.run(args, false);
+        } catch (Tailor.ExitException e) {
+            status = e.getStatus();
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            status = ExitCode.failure();
+        } finally {
+            requestOut.flush();
+            requestErr.flush();
+            System.setOut(stdout);
+            System.setErr(stderr);
+        }
+
+        synchronized (out) {
+            out.writeByte(EXIT_FRAME);
+            out.writeInt(status);
+            out.flush();
+        }
+    }
+
+}
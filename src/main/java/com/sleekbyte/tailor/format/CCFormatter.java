@@ -88,6 +88,11 @@ public final class CCFormatter extends Formatter {
         return ExitCode.SUCCESS;
     }
 
+    @Override
+    public boolean canDisplayWhileAnalyzing() {
+        return true;
+    }
+
     @Override
     public void printProgressInfo(String str) {
         // Not Applicable to this formatter
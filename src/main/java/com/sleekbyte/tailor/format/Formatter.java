@@ -4,9 +4,11 @@ import com.sleekbyte.tailor.common.ColorSettings;
 import com.sleekbyte.tailor.common.ExitCode;
 import com.sleekbyte.tailor.common.Messages;
 import com.sleekbyte.tailor.output.ViolationMessage;
+import org.fusesource.jansi.AnsiConsole;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.util.List;
 
 /**
@@ -62,6 +64,26 @@ public abstract class Formatter {
         return ExitCode.SUCCESS;
     }
 
+    /**
+     * Determine whether violation messages for a file may be displayed while other files are still being analyzed.
+     * Formatters that print progress info must not, so that it is not interleaved with violation messages.
+     *
+     * @return true if violation messages may be displayed as soon as a file and its predecessors are analyzed
+     */
+    public boolean canDisplayWhileAnalyzing() {
+        return false;
+    }
+
+    /**
+     * Returns the stream used for colorized console output. Jansi strips ANSI escape codes from it when the console
+     * is not a terminal. If standard output has been redirected, e.g. by the Tailor daemon, that stream is used.
+     *
+     * @return stream for colorized output
+     */
+    public static PrintStream getColorOutputStream() {
+        return System.out == AnsiConsole.system_out ? AnsiConsole.out : System.out;
+    }
+
     /**
      * Print progress info to the console if the format allows.
      *
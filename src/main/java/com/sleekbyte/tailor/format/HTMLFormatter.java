@@ -24,18 +24,18 @@ public final class HTMLFormatter extends Formatter {
 
     protected static final String TEMPLATE_PATH = "index.html";
     private static final String NEWLINE_PATTERN = "\n";
-    private static final List<Map<String, Object>> FILES = new ArrayList<>();
+    private List<Map<String, Object>> files = new ArrayList<>();
 
     public HTMLFormatter(ColorSettings colorSettings) {
         super(colorSettings);
     }
 
-    protected static List<Map<String, Object>> getFiles() {
-        return FILES;
+    protected List<Map<String, Object>> getFiles() {
+        return files;
     }
 
-    protected static void clearFiles() {
-        FILES.clear();
+    protected void clearFiles() {
+        files.clear();
     }
 
     @Override
@@ -79,9 +79,9 @@ public final class HTMLFormatter extends Formatter {
         output.put(Messages.SUMMARY_KEY,
             Formatter.formatSummary(numFiles, numSkipped, numErrors, numWarnings).replace(NEWLINE_PATTERN, ""));
         // Sort files by descending order of the number of violations
-        FILES.sort((o1, o2) ->
+        files.sort((o1, o2) ->
             ((List) o2.get(Messages.VIOLATIONS_KEY)).size() - ((List) o1.get(Messages.VIOLATIONS_KEY)).size());
-        output.put(Messages.FILES_KEY, FILES);
+        output.put(Messages.FILES_KEY, files);
         output.put(Messages.VERSION_LONG_OPT, new ConfigProperties().getVersion());
 
         InputStreamReader inputStreamReader = new InputStreamReader(
@@ -92,6 +92,11 @@ public final class HTMLFormatter extends Formatter {
         inputStreamReader.close();
     }
 
+    @Override
+    public boolean canDisplayWhileAnalyzing() {
+        return true;
+    }
+
     @Override
     public void printProgressInfo(String str) {
         // Not Applicable to this formatter
@@ -107,7 +112,7 @@ public final class HTMLFormatter extends Formatter {
             Formatter.pluralize(numViolations, Messages.SINGLE_VIOLATION_KEY, Messages.MULTI_VIOLATIONS_KEY)
         );
         output.put(Messages.PARSED_KEY, parsed);
-        FILES.add(output);
+        files.add(output);
     }
 
 }
@@ -2,38 +2,33 @@ package com.sleekbyte.tailor.format;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
 import com.sleekbyte.tailor.common.ColorSettings;
 import com.sleekbyte.tailor.common.Messages;
 import com.sleekbyte.tailor.output.ViolationMessage;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Formatter that displays violation messages in valid JSON output.
+ * Each file's messages are written to the "files" array as soon as they are displayed.
  */
 public final class JSONFormatter extends Formatter {
 
-    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
-    private static final List<Map<String, Object>> FILES = new ArrayList<>();
+    static final Gson GSON = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
+    private JsonWriter jsonWriter;
 
     public JSONFormatter(ColorSettings colorSettings) {
         super(colorSettings);
     }
 
-    protected static List<Map<String, Object>> getFiles() {
-        return FILES;
-    }
-
-    protected static void clearFiles() {
-        FILES.clear();
-    }
-
     @Override
     public void displayViolationMessages(List<ViolationMessage> violationMessages, File inputFile) throws IOException {
         List<Map<String, Object>> violations = new ArrayList<>();
@@ -61,22 +56,22 @@ public final class JSONFormatter extends Formatter {
     }
 
     @Override
-    public void displaySummary(long numFiles, long numSkipped, long numErrors, long numWarnings) {
-        long numFilesAnalyzed = numFiles - numSkipped;
-        long numViolations = numErrors + numWarnings;
-
-        Map<String, Long> summary = new HashMap<>();
-        summary.put(Messages.ANALYZED_KEY, numFilesAnalyzed);
-        summary.put(Messages.SKIPPED_KEY, numSkipped);
-        summary.put(Messages.VIOLATIONS_KEY, numViolations);
-        summary.put(Messages.ERRORS_KEY, numErrors);
-        summary.put(Messages.WARNINGS_KEY, numWarnings);
+    public void displaySummary(long numFiles, long numSkipped, long numErrors, long numWarnings) throws IOException {
+        Map<String, Long> summary = createSummary(numFiles, numSkipped, numErrors, numWarnings);
+
+        // The files array has already been written, so that SUMMARY_KEY follows FILES_KEY in output
+        JsonWriter writer = getJsonWriter();
+        writer.endArray();
+        writer.name(Messages.SUMMARY_KEY);
+        GSON.toJson(summary, summary.getClass(), writer);
+        writer.endObject();
+        writer.flush();
+        System.out.println();
+    }
 
-        // Use LinkedHashMap implementation to maintain order of FILES_KEY above SUMMARY_KEY in output
-        Map<String, Object> output = new LinkedHashMap<>();
-        output.put(Messages.FILES_KEY, FILES);
-        output.put(Messages.SUMMARY_KEY, summary);
-        System.out.println(GSON.toJson(output));
+    @Override
+    public boolean canDisplayWhileAnalyzing() {
+        return true;
     }
 
     @Override
@@ -84,13 +79,49 @@ public final class JSONFormatter extends Formatter {
         // Not Applicable to this formatter
     }
 
+    /**
+     * Creates the summary that follows the files array.
+     *
+     * @param numFiles    number of files, including skipped files
+     * @param numSkipped  number of files that could not be parsed
+     * @param numErrors   number of violations with error severity
+     * @param numWarnings number of violations with warning severity
+     * @return summary keyed by its JSON names
+     */
+    static Map<String, Long> createSummary(long numFiles, long numSkipped, long numErrors, long numWarnings) {
+        Map<String, Long> summary = new HashMap<>();
+        summary.put(Messages.ANALYZED_KEY, numFiles - numSkipped);
+        summary.put(Messages.SKIPPED_KEY, numSkipped);
+        summary.put(Messages.VIOLATIONS_KEY, numErrors + numWarnings);
+        summary.put(Messages.ERRORS_KEY, numErrors);
+        summary.put(Messages.WARNINGS_KEY, numWarnings);
+        return summary;
+    }
+
     private void storeMessages(List<Map<String, Object>> violations, boolean parsed, String filePath)
         throws IOException {
         Map<String, Object> output = new HashMap<>();
         output.put(Messages.PATH_KEY, filePath);
         output.put(Messages.VIOLATIONS_KEY, violations);
         output.put(Messages.PARSED_KEY, parsed);
-        FILES.add(output);
+        GSON.toJson(output, output.getClass(), getJsonWriter());
+        jsonWriter.flush();
+    }
+
+    /**
+     * Returns the writer for this formatter's output, beginning the top-level object and its files array on first use.
+     *
+     * @return JSON writer positioned inside the files array
+     * @throws IOException if the output cannot be written
+     */
+    private JsonWriter getJsonWriter() throws IOException {
+        if (jsonWriter == null) {
+            jsonWriter = GSON.newJsonWriter(new OutputStreamWriter(System.out, Charset.defaultCharset()));
+            jsonWriter.beginObject();
+            jsonWriter.name(Messages.FILES_KEY);
+            jsonWriter.beginArray();
+        }
+        return jsonWriter;
     }
 
 }
@@ -0,0 +1,125 @@
+package com.sleekbyte.tailor.format;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sleekbyte.tailor.common.Messages;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Combines the reports of several runs of the JSON formatter, such as the shards of a project analyzed with --shard,
+ * into a single report of the same shape. The files of all reports are listed by path, and the summary adds up the
+ * summaries of all reports.
+ */
+public final class JSONMerger {
+
+    private final Map<String, JsonObject> files = new TreeMap<>();
+    private long numFiles = 0;
+    private long numSkipped = 0;
+    private long numErrors = 0;
+    private long numWarnings = 0;
+
+    /**
+     * Exception thrown when a report cannot be merged.
+     */
+    public static final class InvalidReportException extends IOException {
+        public InvalidReportException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Adds the files and summary of a report.
+     *
+     * @param report JSON report written by the JSON formatter
+     * @throws IOException if the report cannot be read, or is not a report written by the JSON formatter
+     */
+    public void add(Path report) throws IOException {
+        try (Reader reader = Files.newBufferedReader(report, Charset.defaultCharset())) {
+            add(reader);
+        } catch (InvalidReportException e) {
+            throw new InvalidReportException(report + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the files and summary of a report.
+     *
+     * @param report JSON report written by the JSON formatter
+     * @throws InvalidReportException if the report is not a report written by the JSON formatter, or lists a file
+     *     that an earlier report already lists
+     */
+    public void add(Reader report) throws InvalidReportException {
+        Map<String, JsonObject> reportFiles = new TreeMap<>();
+        long reportAnalyzed;
+        long reportSkipped;
+        long reportErrors;
+        long reportWarnings;
+        try {
+            JsonObject root = new JsonParser().parse(report).getAsJsonObject();
+            for (JsonElement element : getMember(root, Messages.FILES_KEY).getAsJsonArray()) {
+                JsonObject file = element.getAsJsonObject();
+                reportFiles.put(getMember(file, Messages.PATH_KEY).getAsString(), file);
+            }
+            JsonObject summary = getMember(root, Messages.SUMMARY_KEY).getAsJsonObject();
+            reportAnalyzed = getMember(summary, Messages.ANALYZED_KEY).getAsLong();
+            reportSkipped = getMember(summary, Messages.SKIPPED_KEY).getAsLong();
+            reportErrors = getMember(summary, Messages.ERRORS_KEY).getAsLong();
+            reportWarnings = getMember(summary, Messages.WARNINGS_KEY).getAsLong();
+        } catch (JsonParseException | IllegalStateException | UnsupportedOperationException | NumberFormatException e) {
+            // Thrown by the parser for malformed JSON, and by the accessors for values of another type
+            throw new InvalidReportException(Messages.INVALID_REPORT);
+        }
+
+        for (String path : reportFiles.keySet()) {
+            if (files.containsKey(path)) {
+                throw new InvalidReportException(path + Messages.ALREADY_MERGED);
+            }
+        }
+        files.putAll(reportFiles);
+        numFiles += reportAnalyzed + reportSkipped;
+        numSkipped += reportSkipped;
+        numErrors += reportErrors;
+        numWarnings += reportWarnings;
+    }
+
+    /**
+     * Writes the combined report.
+     *
+     * @param output writer for the combined report
+     * @throws IOException if the report cannot be written
+     */
+    public void write(Appendable output) throws IOException {
+        JsonArray mergedFiles = new JsonArray();
+        files.values().forEach(mergedFiles::add);
+        Map<String, Long> summary = JSONFormatter.createSummary(numFiles, numSkipped, numErrors, numWarnings);
+
+        JsonObject merged = new JsonObject();
+        merged.add(Messages.FILES_KEY, mergedFiles);
+        merged.add(Messages.SUMMARY_KEY, JSONFormatter.GSON.toJsonTree(summary, summary.getClass()));
+        JSONFormatter.GSON.toJson(merged, output);
+        output.append(System.lineSeparator());
+    }
+
+    public long getNumErrors() {
+        return numErrors;
+    }
+
+    private static JsonElement getMember(JsonObject object, String name) {
+        JsonElement member = object.get(name);
+        if (member == null) {
+            throw new IllegalStateException("Missing " + name);
+        }
+        return member;
+    }
+
+}
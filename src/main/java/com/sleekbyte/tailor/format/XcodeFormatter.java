@@ -5,7 +5,6 @@ import com.sleekbyte.tailor.common.ColorSettings;
 import com.sleekbyte.tailor.common.Messages;
 import com.sleekbyte.tailor.output.ViolationMessage;
 import org.fusesource.jansi.Ansi;
-import org.fusesource.jansi.AnsiConsole;
 
 import java.io.File;
 import java.io.IOException;
@@ -57,7 +56,7 @@ public final class XcodeFormatter extends Formatter {
                 output.setColorSettings(colorSettings);
                 output.setLineNumberWidth(String.valueOf(getHighestLineNumber(violationMessages)).length());
                 output.setColumnNumberWidth(String.valueOf(getHighestColumnNumber(violationMessages)).length());
-                AnsiConsole.out.println(Ansi.ansi().render(output.toString()));
+                getColorOutputStream().println(Ansi.ansi().render(output.toString()));
             }
         } else {
             violationMessages.forEach(System.out::println);
@@ -77,7 +76,7 @@ public final class XcodeFormatter extends Formatter {
 
     private void printColoredMessage(String msg) {
         if (colorSettings.colorOutput) {
-            AnsiConsole.out.println(Ansi.ansi().render(msg));
+            getColorOutputStream().println(Ansi.ansi().render(msg));
         } else {
             System.out.println(msg);
         }
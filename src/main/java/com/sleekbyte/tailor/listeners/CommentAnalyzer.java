@@ -1,9 +1,9 @@
 package com.sleekbyte.tailor.listeners;
 
 import com.sleekbyte.tailor.output.Printer;
+import com.sleekbyte.tailor.utils.CommentExtractor;
 import org.antlr.v4.runtime.Token;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -12,20 +12,32 @@ import java.util.List;
 public abstract class CommentAnalyzer {
 
     protected Printer printer;
-    protected List<Token> singleLineComments = new ArrayList<>();
-    protected List<Token> multilineComments = new ArrayList<>();
+    protected CommentExtractor commentExtractor;
+    protected List<Token> singleLineComments;
+    protected List<Token> multilineComments;
 
     /**
      * Create instance of CommentAnalyzer.
      *
-     * @param printer     An instance of Printer
-     * @param singleLineComments List of // comments
-     * @param multilineComments List of /* comments
+     * @param printer          An instance of Printer
+     * @param commentExtractor Comments of the source file, classified once for all comment analyzers
      */
-    public CommentAnalyzer(Printer printer, List<Token> singleLineComments, List<Token> multilineComments) {
+    public CommentAnalyzer(Printer printer, CommentExtractor commentExtractor) {
         this.printer = printer;
-        this.singleLineComments = singleLineComments;
-        this.multilineComments = multilineComments;
+        this.commentExtractor = commentExtractor;
+        this.singleLineComments = commentExtractor.getSingleLineComments();
+        this.multilineComments = commentExtractor.getMultilineComments();
+    }
+
+    /**
+     * Checks whether a comment has the specified property, as classified by the comment extractor.
+     *
+     * @param comment single-line or multiline comment
+     * @param tag     property to check for
+     * @return true if the comment has the property
+     */
+    protected boolean hasTag(Token comment, CommentExtractor.Tag tag) {
+        return commentExtractor.hasTag(comment, tag);
     }
 
     public abstract void analyze();
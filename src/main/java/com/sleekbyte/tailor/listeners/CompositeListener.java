@@ -0,0 +1,180 @@
+package com.sleekbyte.tailor.listeners;
+
+import com.sleekbyte.tailor.antlr.SwiftBaseListener;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parse tree listener that fans out every event to a set of rule listeners, so that a parse tree
+ * only has to be walked once regardless of the number of enabled rules.
+ *
+ * <p>Each rule listener only receives the enter/exit callbacks that it overrides from {@link SwiftBaseListener}.</p>
+ */
+public final class CompositeListener implements ParseTreeListener {
+
+    private static final String ENTER_PREFIX = "enter";
+    private static final String EXIT_PREFIX = "exit";
+    private static final ParseTreeListener[] NO_LISTENERS = new ParseTreeListener[0];
+
+    // Context classes handled by each listener class, computed once per listener class
+    private static final Map<Class<?>, Set<Class<?>>> ENTER_OVERRIDES = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Set<Class<?>>> EXIT_OVERRIDES = new ConcurrentHashMap<>();
+    // Dispatch tables, computed once per ordered list of listener classes and shared by the walks of all files
+    private static final Map<List<Class<?>>, DispatchPlan> DISPATCH_PLANS = new ConcurrentHashMap<>();
+
+    private final ParseTreeListener[] listeners;
+    private final DispatchPlan plan;
+
+    /**
+     * Creates a composite listener that dispatches parse tree events to the given listeners.
+     *
+     * @param listeners rule listeners to notify, in order
+     */
+    public CompositeListener(List<? extends ParseTreeListener> listeners) {
+        this.listeners = listeners.toArray(NO_LISTENERS);
+        List<Class<?>> listenerClasses = new ArrayList<>(this.listeners.length);
+        for (ParseTreeListener listener : this.listeners) {
+            listenerClasses.add(listener.getClass());
+        }
+        DispatchPlan existingPlan = DISPATCH_PLANS.get(listenerClasses);
+        this.plan = existingPlan != null ? existingPlan
+            : DISPATCH_PLANS.computeIfAbsent(Collections.unmodifiableList(listenerClasses), DispatchPlan::new);
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        for (int listener : plan.enterEveryRuleListeners) {
+            listeners[listener].enterEveryRule(ctx);
+        }
+        for (int listener : plan.getDispatchList(ctx.getClass(), plan.enterDispatchTable, ENTER_OVERRIDES,
+            ENTER_PREFIX)) {
+            ctx.enterRule(listeners[listener]);
+        }
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        for (int listener : plan.getDispatchList(ctx.getClass(), plan.exitDispatchTable, EXIT_OVERRIDES,
+            EXIT_PREFIX)) {
+            ctx.exitRule(listeners[listener]);
+        }
+        for (int listener : plan.exitEveryRuleListeners) {
+            listeners[listener].exitEveryRule(ctx);
+        }
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+        for (int listener : plan.terminalListeners) {
+            listeners[listener].visitTerminal(node);
+        }
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+        for (int listener : plan.errorNodeListeners) {
+            listeners[listener].visitErrorNode(node);
+        }
+    }
+
+    /**
+     * Positions of the listeners that handle each parse tree event, in an ordered list of listener classes.
+     */
+    private static final class DispatchPlan {
+        private final List<Class<?>> listenerClasses;
+        private final int[] enterEveryRuleListeners;
+        private final int[] exitEveryRuleListeners;
+        private final int[] terminalListeners;
+        private final int[] errorNodeListeners;
+        private final Map<Class<?>, int[]> enterDispatchTable = new ConcurrentHashMap<>();
+        private final Map<Class<?>, int[]> exitDispatchTable = new ConcurrentHashMap<>();
+
+        DispatchPlan(List<Class<?>> listenerClasses) {
+            this.listenerClasses = listenerClasses;
+            this.enterEveryRuleListeners = listenersOverriding("enterEveryRule", ParserRuleContext.class);
+            this.exitEveryRuleListeners = listenersOverriding("exitEveryRule", ParserRuleContext.class);
+            this.terminalListeners = listenersOverriding("visitTerminal", TerminalNode.class);
+            this.errorNodeListeners = listenersOverriding("visitErrorNode", ErrorNode.class);
+        }
+
+        private int[] getDispatchList(Class<?> ctxClass, Map<Class<?>, int[]> dispatchTable,
+                                      Map<Class<?>, Set<Class<?>>> overrides, String prefix) {
+            int[] dispatchList = dispatchTable.get(ctxClass);
+            if (dispatchList == null) {
+                dispatchList = dispatchTable.computeIfAbsent(ctxClass, newCtxClass -> {
+                        List<Integer> interested = new ArrayList<>();
+                        for (int listener = 0; listener < listenerClasses.size(); listener++) {
+                            Set<Class<?>> handledContexts = overrides.computeIfAbsent(listenerClasses.get(listener),
+                                listenerClass -> findOverriddenCallbacks(listenerClass, prefix));
+                            if (handledContexts.contains(newCtxClass)) {
+                                interested.add(listener);
+                            }
+                        }
+                        return toArray(interested);
+                    });
+            }
+            return dispatchList;
+        }
+
+        private int[] listenersOverriding(String methodName, Class<?> parameterType) {
+            List<Integer> overriding = new ArrayList<>();
+            for (int listener = 0; listener < listenerClasses.size(); listener++) {
+                try {
+                    Method method = listenerClasses.get(listener).getMethod(methodName, parameterType);
+                    if (isOverridden(method)) {
+                        overriding.add(listener);
+                    }
+                } catch (NoSuchMethodException e) {
+                    // Listener does not declare this callback
+                }
+            }
+            return toArray(overriding);
+        }
+
+        private static int[] toArray(List<Integer> positions) {
+            return positions.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Collects the parse tree context classes for which a listener class overrides an enter or exit callback.
+     *
+     * @param listenerClass class of the rule listener
+     * @param prefix callback prefix, i.e. "enter" or "exit"
+     * @return context classes handled by the listener class
+     */
+    private static Set<Class<?>> findOverriddenCallbacks(Class<?> listenerClass, String prefix) {
+        Set<Class<?>> handledContexts = new HashSet<>();
+        for (Method method : listenerClass.getMethods()) {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            if (method.getName().startsWith(prefix)
+                && parameterTypes.length == 1
+                && ParserRuleContext.class.isAssignableFrom(parameterTypes[0])
+                && parameterTypes[0] != ParserRuleContext.class
+                && isOverridden(method)) {
+                handledContexts.add(parameterTypes[0]);
+            }
+        }
+        return Collections.unmodifiableSet(handledContexts);
+    }
+
+    private static boolean isOverridden(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        return declaringClass != SwiftBaseListener.class
+            && !declaringClass.isInterface()
+            && !Modifier.isAbstract(method.getModifiers());
+    }
+
+}
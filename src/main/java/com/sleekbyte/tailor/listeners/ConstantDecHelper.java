@@ -15,15 +15,12 @@ public class ConstantDecHelper {
      * @param ctx context object
      */
     public static ParserRuleContext getConstantDeclaration(ParserRuleContext ctx) {
-        if (ctx.getParent() != null) {
-            if (ctx.getParent() instanceof SwiftParser.ConstantDeclarationContext) {
-                return ctx.getParent();
-            } else {
-                return getConstantDeclaration(ctx.getParent());
+        for (ParserRuleContext parent = ctx.getParent(); parent != null; parent = parent.getParent()) {
+            if (parent instanceof SwiftParser.ConstantDeclarationContext) {
+                return parent;
             }
-        } else {
-            return null;
         }
+        return null;
     }
 
     /**
@@ -19,14 +19,16 @@ import java.util.List;
 public class ConstantNamingListener extends SwiftBaseListener {
 
     private Printer printer;
+    private DeclarationIndex declarationIndex;
 
-    public ConstantNamingListener(Printer printer) {
+    public ConstantNamingListener(Printer printer, DeclarationIndex declarationIndex) {
         this.printer = printer;
+        this.declarationIndex = declarationIndex;
     }
 
     @Override
     public void enterTopLevel(TopLevelContext topLevelContext) {
-        List<IdentifierContext> names =  DeclarationListener.getConstantNames(topLevelContext);
+        List<IdentifierContext> names = declarationIndex.getConstantNames(topLevelContext);
 
         names.forEach(
             ctx -> {
@@ -0,0 +1,53 @@
+package com.sleekbyte.tailor.listeners;
+
+import com.sleekbyte.tailor.antlr.SwiftParser.IdentifierContext;
+import com.sleekbyte.tailor.antlr.SwiftParser.TopLevelContext;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Constant and variable names declared in a source file. The names are collected in a single walk of the parse tree,
+ * the first time a rule asks for them, and are then shared by all length and naming rules of the file.
+ */
+public final class DeclarationIndex {
+
+    private TopLevelContext indexedTree;
+    private List<IdentifierContext> constantNames;
+    private List<IdentifierContext> variableNames;
+
+    /**
+     * Returns the identifiers of all constants declared in a parse tree, including function and closure parameters.
+     *
+     * @param ctx root of the parse tree
+     * @return constant names in the order in which they are declared
+     */
+    public List<IdentifierContext> getConstantNames(TopLevelContext ctx) {
+        index(ctx);
+        return constantNames;
+    }
+
+    /**
+     * Returns the identifiers of all variables declared in a parse tree.
+     *
+     * @param ctx root of the parse tree
+     * @return variable names in the order in which they are declared
+     */
+    public List<IdentifierContext> getVariableNames(TopLevelContext ctx) {
+        index(ctx);
+        return variableNames;
+    }
+
+    private void index(TopLevelContext ctx) {
+        if (ctx == indexedTree) {
+            return;
+        }
+        DeclarationListener listener = new DeclarationListener();
+        new ParseTreeWalker().walk(listener, ctx);
+        constantNames = Collections.unmodifiableList(listener.getConstantNames());
+        variableNames = Collections.unmodifiableList(listener.getVariableNames());
+        indexedTree = ctx;
+    }
+
+}
@@ -4,7 +4,6 @@ import com.sleekbyte.tailor.antlr.SwiftBaseListener;
 import com.sleekbyte.tailor.antlr.SwiftParser;
 import com.sleekbyte.tailor.antlr.SwiftParser.ClosureParameterNameContext;
 import com.sleekbyte.tailor.antlr.SwiftParser.IdentifierContext;
-import com.sleekbyte.tailor.antlr.SwiftParser.TopLevelContext;
 import com.sleekbyte.tailor.antlr.SwiftParser.VariableNameContext;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
@@ -13,14 +12,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Parse tree listener for declaration constructs.
+ * Parse tree listener for declaration constructs, collecting constant and variable names in a single walk.
  */
 public class DeclarationListener extends SwiftBaseListener {
 
     private static final String LET = "let";
     private static final String VAR = "var";
-    private Declaration declarationType;
-    private List<IdentifierContext> declarations;
+    private List<IdentifierContext> constantNames = new ArrayList<>();
+    private List<IdentifierContext> variableNames = new ArrayList<>();
 
     /**
      * Extracts identifier that's in the subtree of a given context.
@@ -40,143 +39,115 @@ public class DeclarationListener extends SwiftBaseListener {
     }
 
     /**
-     * Declaration types handled by this listener.
+     * Creates a DeclarationListener object that collects both constant and variable names.
      */
-    public enum Declaration { VARIABLE_DEC, CONSTANT_DEC }
+    DeclarationListener() {}
 
-    /**
-     * Creates a DeclarationListener object.
-     *
-     * @param decl Type of declarations to search for
-     */
-    private DeclarationListener(Declaration decl) {
-        this.declarationType = decl;
-        declarations = new ArrayList<>();
-    }
-
-    public List<IdentifierContext> getDeclarations() {
-        return declarations;
+    List<IdentifierContext> getConstantNames() {
+        return constantNames;
     }
 
-    private static List<IdentifierContext> getDeclarationNames(TopLevelContext ctx, Declaration decl) {
-        DeclarationListener listener = new DeclarationListener(decl);
-        ParseTreeWalker walker = new ParseTreeWalker();
-        walker.walk(listener, ctx);
-        return listener.getDeclarations();
-    }
-
-    public static List<IdentifierContext> getConstantNames(TopLevelContext ctx) {
-        return getDeclarationNames(ctx, Declaration.CONSTANT_DEC);
+    List<IdentifierContext> getVariableNames() {
+        return variableNames;
     }
 
-    public static List<IdentifierContext> getVariableNames(TopLevelContext ctx) {
-        return getDeclarationNames(ctx, Declaration.VARIABLE_DEC);
-    }
-
-    private String getKeyword() {
-        switch (declarationType) {
-            case CONSTANT_DEC: return LET;
-            case VARIABLE_DEC: return VAR;
-            default: return "";
+    private List<IdentifierContext> getNamesForKeyword(String keyword) {
+        switch (keyword) {
+            case LET: return constantNames;
+            case VAR: return variableNames;
+            default: return null;
         }
     }
 
     @Override
     public void enterConstantDeclaration(SwiftParser.ConstantDeclarationContext ctx) {
-        if (declarationType.equals(Declaration.CONSTANT_DEC)) {
-            evaluatePatternInitializerList(ctx.patternInitializerList());
-        }
+        evaluatePatternInitializerList(ctx.patternInitializerList(), constantNames);
     }
 
     @Override
     public void enterVariableDeclaration(SwiftParser.VariableDeclarationContext ctx) {
-        if (!declarationType.equals(Declaration.VARIABLE_DEC) || ctx.patternInitializerList() == null) {
+        if (ctx.patternInitializerList() == null) {
             return;
         }
-        evaluatePatternInitializerList(ctx.patternInitializerList());
+        evaluatePatternInitializerList(ctx.patternInitializerList(), variableNames);
     }
 
     @Override
     public void enterClosureParameterName(ClosureParameterNameContext ctx) {
-        if (declarationType.equals(Declaration.CONSTANT_DEC)) {
-            extractIdentifier(ctx);
-        }
+        extractIdentifier(ctx, constantNames);
     }
 
     @Override
     public void enterVariableName(VariableNameContext ctx) {
-        if (declarationType.equals(Declaration.VARIABLE_DEC)) {
-            extractIdentifier(ctx);
-        }
+        extractIdentifier(ctx, variableNames);
     }
 
     @Override
     public void enterValueBindingPattern(SwiftParser.ValueBindingPatternContext ctx) {
-        if (ctx.getStart().getText().equals(getKeyword())) {
-            evaluatePattern(ctx.pattern());
+        List<IdentifierContext> names = getNamesForKeyword(ctx.getStart().getText());
+        if (names != null) {
+            evaluatePattern(ctx.pattern(), names);
         }
     }
 
     @Override
     public void enterParameter(SwiftParser.ParameterContext ctx) {
-        if (!declarationType.equals(Declaration.CONSTANT_DEC)) {
-            return;
-        }
-
         if (ctx.externalParameterName() != null) {
-            extractIdentifier(ctx.externalParameterName());
+            extractIdentifier(ctx.externalParameterName(), constantNames);
         }
-        extractIdentifier(ctx.localParameterName());
+        extractIdentifier(ctx.localParameterName(), constantNames);
     }
 
     @Override
     public void enterOptionalBindingCondition(SwiftParser.OptionalBindingConditionContext ctx) {
-        String currentBinding = ctx.getChild(0).getText();
-        if (currentBinding.equals(getKeyword())) {
-            evaluatePattern(ctx.pattern());
+        List<IdentifierContext> names = getNamesForKeyword(ctx.getChild(0).getText());
+        if (names != null) {
+            evaluatePattern(ctx.pattern(), names);
         }
     }
 
-    private void extractIdentifier(ParserRuleContext ctx) {
+    private void extractIdentifier(ParserRuleContext ctx, List<IdentifierContext> names) {
         IdentifierExtractor extractor = new IdentifierExtractor();
         ParseTreeWalker walker = new ParseTreeWalker();
         walker.walk(extractor, ctx);
         if (extractor.getIdentifier() != null) {
-            declarations.add(extractor.getIdentifier());
+            names.add(extractor.getIdentifier());
         }
     }
 
-    private void evaluatePatternInitializerList(SwiftParser.PatternInitializerListContext ctx) {
+    private void evaluatePatternInitializerList(SwiftParser.PatternInitializerListContext ctx,
+                                                List<IdentifierContext> names) {
         for (SwiftParser.PatternInitializerContext context : ctx.patternInitializer()) {
             SwiftParser.PatternContext pattern = context.pattern();
-            evaluatePattern(pattern);
+            evaluatePattern(pattern, names);
         }
     }
 
-    private void evaluatePattern(SwiftParser.PatternContext pattern) {
+    private void evaluatePattern(SwiftParser.PatternContext pattern, List<IdentifierContext> names) {
         if (pattern.identifierPattern() != null) {
-            extractIdentifier(pattern.identifierPattern());
+            extractIdentifier(pattern.identifierPattern(), names);
 
         } else if (pattern.tuplePattern() != null && pattern.tuplePattern().tuplePatternElementList() != null) {
-            evaluateTuplePattern(pattern.tuplePattern());
+            evaluateTuplePattern(pattern.tuplePattern(), names);
 
         } else if (pattern.enumCasePattern() != null && pattern.enumCasePattern().tuplePattern() != null) {
-            evaluateTuplePattern(pattern.enumCasePattern().tuplePattern());
+            evaluateTuplePattern(pattern.enumCasePattern().tuplePattern(), names);
 
         } else if (pattern.pattern() != null) {
-            evaluatePattern(pattern.pattern());
+            evaluatePattern(pattern.pattern(), names);
 
         } else if (pattern.expressionPattern() != null) {
-            extractIdentifier(pattern.expressionPattern().expression().prefixExpression());
+            extractIdentifier(pattern.expressionPattern().expression().prefixExpression(), names);
         }
     }
 
-    private void evaluateTuplePattern(SwiftParser.TuplePatternContext tuplePatternContext) {
+    private void evaluateTuplePattern(SwiftParser.TuplePatternContext tuplePatternContext,
+                                      List<IdentifierContext> names) {
         List<SwiftParser.TuplePatternElementContext> tuplePatternElementContexts =
             tuplePatternContext.tuplePatternElementList().tuplePatternElement();
 
         for (SwiftParser.TuplePatternElementContext tuplePatternElement : tuplePatternElementContexts) {
-            evaluatePattern(tuplePatternElement.pattern());
+            evaluatePattern(tuplePatternElement.pattern(), names);
         }
     }
 }
@@ -5,12 +5,12 @@ import com.sleekbyte.tailor.common.Location;
 import com.sleekbyte.tailor.common.Messages;
 import com.sleekbyte.tailor.common.Rules;
 import com.sleekbyte.tailor.output.Printer;
+import com.sleekbyte.tailor.utils.SourceBuffer;
 import com.sleekbyte.tailor.utils.SourceFileUtil;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.LineNumberReader;
-import java.nio.file.Files;
 import java.util.Set;
 
 /**
@@ -19,7 +19,7 @@ import java.util.Set;
 public final class FileListener implements AutoCloseable {
 
     private Printer printer;
-    private File inputFile;
+    private SourceBuffer source;
     private ConstructLengths constructLengths;
     private LineNumberReader reader;
     private int numOfLines = 0;
@@ -34,10 +34,22 @@ public final class FileListener implements AutoCloseable {
      */
     public FileListener(Printer printer, File inputFile, ConstructLengths constructLengths, Set<Rules> enabledRules)
         throws IOException {
+        this(printer, SourceBuffer.read(inputFile), constructLengths, enabledRules);
+    }
+
+    /**
+     * Constructs a file listener that verifies the already buffered contents of a source file.
+     *
+     * @param printer    the printer to use for displaying violation messages
+     * @param source     the buffered source file to verify
+     * @param constructLengths the restrictions for maximum lengths
+     */
+    public FileListener(Printer printer, SourceBuffer source, ConstructLengths constructLengths,
+                        Set<Rules> enabledRules) {
         this.printer = printer;
-        this.inputFile = inputFile;
+        this.source = source;
         this.constructLengths = constructLengths;
-        this.reader = new LineNumberReader(Files.newBufferedReader(inputFile.toPath()));
+        this.reader = new LineNumberReader(source.newReader());
         this.enabledRules = enabledRules;
     }
 
@@ -106,15 +118,15 @@ public final class FileListener implements AutoCloseable {
         }
     }
 
-    private void verifyNewlineTerminated() throws IOException {
-        if (!SourceFileUtil.singleNewlineTerminated(this.inputFile)) {
+    private void verifyNewlineTerminated() {
+        if (!SourceFileUtil.singleNewlineTerminated(this.source)) {
             Location location = new Location(this.numOfLines);
             this.printer.error(Rules.TERMINATING_NEWLINE, Messages.FILE + Messages.NEWLINE_TERMINATOR, location);
         }
     }
 
-    private void verifyNoLeadingWhitespace() throws IOException {
-        if (SourceFileUtil.hasLeadingWhitespace(this.inputFile)) {
+    private void verifyNoLeadingWhitespace() {
+        if (SourceFileUtil.hasLeadingWhitespace(this.source)) {
             Location location = new Location(1, 1);
             this.printer.warn(Rules.LEADING_WHITESPACE, Messages.FILE + Messages.LEADING_WHITESPACE, location);
         }
@@ -18,14 +18,16 @@ import java.util.List;
 public class KPrefixListener extends SwiftBaseListener {
 
     private Printer printer;
+    private DeclarationIndex declarationIndex;
 
-    public KPrefixListener(Printer printer) {
+    public KPrefixListener(Printer printer, DeclarationIndex declarationIndex) {
         this.printer = printer;
+        this.declarationIndex = declarationIndex;
     }
 
     @Override
     public void enterTopLevel(TopLevelContext topLevelCtx) {
-        List<IdentifierContext> names = DeclarationListener.getConstantNames(topLevelCtx);
+        List<IdentifierContext> names = declarationIndex.getConstantNames(topLevelCtx);
         names.forEach(
             ctx -> {
                 String constantName = ctx.getText();
@@ -0,0 +1,87 @@
+package com.sleekbyte.tailor.listeners;
+
+import com.sleekbyte.tailor.antlr.SwiftBaseListener;
+import com.sleekbyte.tailor.common.ConstructLengths;
+import com.sleekbyte.tailor.common.Rules;
+import com.sleekbyte.tailor.common.Rules.CommentAnalyzerFactory;
+import com.sleekbyte.tailor.common.Rules.ListenerFactory;
+import com.sleekbyte.tailor.listeners.lengths.MaxLengthListener;
+import com.sleekbyte.tailor.listeners.lengths.MinLengthListener;
+import com.sleekbyte.tailor.output.Printer;
+import com.sleekbyte.tailor.utils.CommentExtractor;
+import org.antlr.v4.runtime.BufferedTokenStream;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates the listeners of the enabled rules for each analyzed file. The listener factory of every enabled rule is
+ * looked up once, when the registry is created, so that creating the listeners of a file only calls the factories.
+ */
+public final class ListenerRegistry {
+
+    private final Set<Rules> enabledRules;
+    private final ConstructLengths constructLengths;
+    private final List<ListenerFactory> listenerFactories = new ArrayList<>();
+    private final List<CommentAnalyzerFactory> commentAnalyzerFactories = new ArrayList<>();
+
+    /**
+     * Creates a registry of the listeners of the enabled rules.
+     *
+     * @param enabledRules     list of enabled rules
+     * @param constructLengths passed into the length listeners
+     */
+    public ListenerRegistry(Set<Rules> enabledRules, ConstructLengths constructLengths) {
+        this.enabledRules = enabledRules;
+        this.constructLengths = constructLengths;
+        // Rules that share a listener share its factory, and only need one instance of it. Rules without a factory
+        // are checked by the file and length listeners.
+        Set<Object> factories = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Rules rule : Rules.values()) {
+            if (!enabledRules.contains(rule)) {
+                continue;
+            }
+            rule.getCommentAnalyzerFactory().filter(factories::add).ifPresent(commentAnalyzerFactories::add);
+            rule.getListenerFactory().filter(factories::add).ifPresent(listenerFactories::add);
+        }
+    }
+
+    /**
+     * Creates the analyzers of the enabled rules that only need the comments of a file.
+     *
+     * @param printer          printer for the file's violation messages
+     * @param commentExtractor comments of the file
+     * @return comment analyzers, in a consistent order
+     */
+    public List<CommentAnalyzer> createCommentAnalyzers(Printer printer, CommentExtractor commentExtractor) {
+        List<CommentAnalyzer> analyzers = new ArrayList<>(commentAnalyzerFactories.size());
+        for (CommentAnalyzerFactory factory : commentAnalyzerFactories) {
+            analyzers.add(factory.create(printer, commentExtractor));
+        }
+        return analyzers;
+    }
+
+    /**
+     * Creates the parse tree listeners of the enabled rules, including the length listeners.
+     *
+     * @param printer     printer for the file's violation messages
+     * @param tokenStream token stream of the file
+     * @return parse tree listeners, in a consistent order
+     */
+    public List<SwiftBaseListener> createListeners(Printer printer, BufferedTokenStream tokenStream) {
+        List<SwiftBaseListener> listeners = new LinkedList<>();
+        // Constant and variable names are collected once per file for all length and naming rules
+        DeclarationIndex declarationIndex = new DeclarationIndex();
+        for (ListenerFactory factory : listenerFactories) {
+            listeners.add(factory.create(printer, tokenStream, declarationIndex));
+        }
+        listeners.add(new MinLengthListener(printer, constructLengths, declarationIndex, enabledRules));
+        listeners.add(new MaxLengthListener(printer, constructLengths, declarationIndex, enabledRules));
+        return listeners;
+    }
+
+}
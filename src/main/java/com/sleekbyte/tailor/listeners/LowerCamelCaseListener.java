@@ -20,14 +20,16 @@ import java.util.List;
 public class LowerCamelCaseListener extends SwiftBaseListener {
 
     private Printer printer;
+    private DeclarationIndex declarationIndex;
 
-    public LowerCamelCaseListener(Printer printer) {
+    public LowerCamelCaseListener(Printer printer, DeclarationIndex declarationIndex) {
         this.printer = printer;
+        this.declarationIndex = declarationIndex;
     }
 
     @Override
     public void enterTopLevel(TopLevelContext topLevelCtx) {
-        List<IdentifierContext> names = DeclarationListener.getVariableNames(topLevelCtx);
+        List<IdentifierContext> names = declarationIndex.getVariableNames(topLevelCtx);
         names.forEach(ctx -> verifyLowerCamelCase(Messages.VARIABLE + Messages.NAMES, ctx));
     }
 
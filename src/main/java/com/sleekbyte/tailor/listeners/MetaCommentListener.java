@@ -4,11 +4,11 @@ import com.sleekbyte.tailor.common.Location;
 import com.sleekbyte.tailor.common.Messages;
 import com.sleekbyte.tailor.common.Rules;
 import com.sleekbyte.tailor.output.Printer;
+import com.sleekbyte.tailor.utils.CommentExtractor;
+import com.sleekbyte.tailor.utils.CommentExtractor.Tag;
 import com.sleekbyte.tailor.utils.ListenerUtil;
 import org.antlr.v4.runtime.Token;
 
-import java.util.List;
-
 /**
  * Class to analyze TODO, FIXME, MARK, ??? and !!! comments.
  */
@@ -17,12 +17,11 @@ public final class MetaCommentListener extends CommentAnalyzer {
     /**
      * Create instance of MetaCommentListener.
      *
-     * @param printer     An instance of Printer
-     * @param singleLineComments List of // comments
-     * @param multilineComments List of /* comments
+     * @param printer          An instance of Printer
+     * @param commentExtractor Comments of the source file
      */
-    public MetaCommentListener(Printer printer, List<Token> singleLineComments, List<Token> multilineComments) {
-        super(printer, singleLineComments, multilineComments);
+    public MetaCommentListener(Printer printer, CommentExtractor commentExtractor) {
+        super(printer, commentExtractor);
     }
 
     @Override
@@ -35,35 +34,29 @@ public final class MetaCommentListener extends CommentAnalyzer {
     }
 
     private void checkTodoSyntaxInSingleLineComments() { // `TODO' or `@TODO'
-        final String correctTodoRegex = "(?s)// @?TODO(?:\\(\\S+\\))?: \\S.*";
-        filterCommentSyntax("todo", correctTodoRegex, singleLineComments);
+        filterCommentSyntax(Tag.MENTIONS_TODO, Tag.META_TODO_SYNTAX);
     }
 
     private void checkFixmeSyntaxInSingleLineComments() { // `FIXME` or `@FIXME'
-        final String correctFixmeRegex = "(?s)// @?FIXME(?:\\(\\S+\\))?: \\S.*";
-        filterCommentSyntax("fix\\s?me", correctFixmeRegex, singleLineComments);
+        filterCommentSyntax(Tag.MENTIONS_FIXME, Tag.FIXME_SYNTAX);
     }
 
     private void checkWarningSyntaxInSingleLineComments() { // `!!!'
-        final String correctFixmeRegex = "(?s)// \\!\\!\\!(?:\\(\\S+\\))?: \\S.*";
-        filterCommentSyntax("fix\\s?me", correctFixmeRegex, singleLineComments);
+        filterCommentSyntax(Tag.MENTIONS_FIXME, Tag.WARNING_SYNTAX);
     }
 
     private void checkQuestionSyntaxInSingleLineComments() { // `???'
-        final String correctFixmeRegex = "(?s)// @?\\?\\?\\?(?:\\(\\S+\\))?: \\S.*";
-        filterCommentSyntax("fix\\s?me", correctFixmeRegex, singleLineComments);
+        filterCommentSyntax(Tag.MENTIONS_FIXME, Tag.QUESTION_SYNTAX);
     }
 
     private void checkMarkSyntaxInSingleLineComments() { // `MARK' or `MARK: -'
-        final String correctMarkRegex = "(?s)// MARK:( -)? \\S.*";
-        filterCommentSyntax("mark", correctMarkRegex, singleLineComments);
+        filterCommentSyntax(Tag.MENTIONS_MARK, Tag.MARK_SYNTAX);
     }
 
-    private void filterCommentSyntax(String occurence, String regex, List<Token> comments) {
-        final String containsTodo = ".*\\b"+occurence+"\\b.*";
-        comments.stream()
-            .filter(token -> token.getText().trim().toLowerCase().matches(containsTodo))
-            .filter(token -> !token.getText().trim().matches(regex))
+    private void filterCommentSyntax(Tag occurrence, Tag correctSyntax) {
+        singleLineComments.stream()
+            .filter(token -> hasTag(token, occurrence))
+            .filter(token -> !hasTag(token, correctSyntax))
             .forEach(token -> metaContentWarning(token, Messages.META_COMMENTS));
     }
 
@@ -4,11 +4,10 @@ import com.sleekbyte.tailor.common.Location;
 import com.sleekbyte.tailor.common.Messages;
 import com.sleekbyte.tailor.common.Rules;
 import com.sleekbyte.tailor.output.Printer;
+import com.sleekbyte.tailor.utils.CommentExtractor;
 import com.sleekbyte.tailor.utils.ListenerUtil;
 import org.antlr.v4.runtime.Token;
 
-import java.util.List;
-
 /**
  * Class to analyze TODO comments.
  */
@@ -17,12 +16,11 @@ public final class TodoCommentListener extends CommentAnalyzer {
     /**
      * Create instance of TodoCommentListener.
      *
-     * @param printer     An instance of Printer
-     * @param singleLineComments List of // comments
-     * @param multilineComments List of /* comments
+     * @param printer          An instance of Printer
+     * @param commentExtractor Comments of the source file
      */
-    public TodoCommentListener(Printer printer, List<Token> singleLineComments, List<Token> multilineComments) {
-        super(printer, singleLineComments, multilineComments);
+    public TodoCommentListener(Printer printer, CommentExtractor commentExtractor) {
+        super(printer, commentExtractor);
     }
 
     @Override
@@ -31,15 +29,9 @@ public final class TodoCommentListener extends CommentAnalyzer {
     }
 
     private void checkTodoSyntaxInSingleLineComments() {
-        final String todoRegex = "(?s)// TODO(?:\\(\\S+\\))?: \\S.*";
-        filterTodoSyntax(todoRegex, singleLineComments);
-    }
-
-    private void filterTodoSyntax(String todoRegex, List<Token> comments) {
-        final String containsTodo = ".*\\btodo\\b.*";
-        comments.stream()
-            .filter(token -> token.getText().trim().toLowerCase().matches(containsTodo))
-            .filter(token -> !token.getText().trim().matches(todoRegex))
+        singleLineComments.stream()
+            .filter(token -> hasTag(token, CommentExtractor.Tag.MENTIONS_TODO))
+            .filter(token -> !hasTag(token, CommentExtractor.Tag.TODO_SYNTAX))
             .forEach(token -> todoContentWarning(token, Messages.TODOS));
     }
 
@@ -12,7 +12,6 @@ import com.sleekbyte.tailor.common.Messages;
 import com.sleekbyte.tailor.common.Rules;
 import com.sleekbyte.tailor.output.Printer;
 import com.sleekbyte.tailor.utils.ListenerUtil;
-import org.antlr.v4.runtime.ParserRuleContext;
 
 import java.util.List;
 
@@ -22,33 +21,29 @@ import java.util.List;
 public final class TrailingClosureListener extends SwiftBaseListener {
 
     private Printer printer;
+    // Number of condition-clauses enclosing the node being visited
+    private int conditionListDepth = 0;
 
     public TrailingClosureListener(Printer printer) {
         this.printer = printer;
     }
 
-    /**
-     * Check if ctx is part of a condition-clause.
-     *
-     * @param ctx Parse tree node
-     * @return true if ctx is inside a condition-clause.
-     */
-    public static boolean isInsideConditionList(ParserRuleContext ctx) {
-        if (ctx == null) {
-            return false;
-        }
-        if (ctx instanceof ConditionListContext) {
-            return true;
-        }
-        return isInsideConditionList(ctx.getParent());
+    @Override
+    public void enterConditionList(ConditionListContext ctx) {
+        conditionListDepth++;
+    }
+
+    @Override
+    public void exitConditionList(ConditionListContext ctx) {
+        conditionListDepth--;
     }
 
     @Override
     public void enterFunctionCallExpression(FunctionCallExpressionContext ctx) {
         ExpressionElementListContext elemList = ctx.parenthesizedExpression().expressionElementList();
 
-        // Check if the function call is inside a condition clause (Issue #401)
-        if (isInsideConditionList(ctx)) {
+        // Check if the function call is inside a condition clause (Issue #401), tracked while walking down the tree
+        if (conditionListDepth > 0) {
             return;
         }
 
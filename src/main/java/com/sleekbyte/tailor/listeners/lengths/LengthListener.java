@@ -5,6 +5,7 @@ import com.sleekbyte.tailor.antlr.SwiftParser;
 import com.sleekbyte.tailor.common.ConstructLengths;
 import com.sleekbyte.tailor.common.Location;
 import com.sleekbyte.tailor.common.Rules;
+import com.sleekbyte.tailor.listeners.DeclarationIndex;
 import com.sleekbyte.tailor.output.Printer;
 import com.sleekbyte.tailor.utils.ListenerUtil;
 import org.antlr.v4.runtime.ParserRuleContext;
@@ -17,6 +18,7 @@ import java.util.Set;
 public abstract class LengthListener extends SwiftBaseListener {
 
     protected ConstructLengths constructLengths;
+    protected DeclarationIndex declarationIndex;
     protected Printer printer;
     protected Set<Rules> enabledRules;
 
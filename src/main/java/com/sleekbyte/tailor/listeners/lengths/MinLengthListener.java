@@ -18,7 +18,7 @@ import com.sleekbyte.tailor.antlr.SwiftParser.VariableNameContext;
 import com.sleekbyte.tailor.common.ConstructLengths;
 import com.sleekbyte.tailor.common.Messages;
 import com.sleekbyte.tailor.common.Rules;
-import com.sleekbyte.tailor.listeners.DeclarationListener;
+import com.sleekbyte.tailor.listeners.DeclarationIndex;
 import com.sleekbyte.tailor.output.Printer;
 import com.sleekbyte.tailor.utils.SourceFileUtil;
 import org.antlr.v4.runtime.ParserRuleContext;
@@ -36,21 +36,24 @@ public final class MinLengthListener extends LengthListener {
      *
      * @param printer Printer object
      * @param constructLengths ConstructLengths object
+     * @param declarationIndex Constant and variable names of the file
      * @param enabledRules Set of enabled rules
      */
-    public MinLengthListener(Printer printer, ConstructLengths constructLengths, Set<Rules> enabledRules) {
+    public MinLengthListener(Printer printer, ConstructLengths constructLengths, DeclarationIndex declarationIndex,
+                             Set<Rules> enabledRules) {
         this.constructLengths = constructLengths;
+        this.declarationIndex = declarationIndex;
         this.printer = printer;
         this.enabledRules = enabledRules;
     }
 
     @Override
     public void enterTopLevel(SwiftParser.TopLevelContext topLevelCtx) {
-        List<IdentifierContext> constants = DeclarationListener.getConstantNames(topLevelCtx);
+        List<IdentifierContext> constants = declarationIndex.getConstantNames(topLevelCtx);
         constants.forEach(ctx ->
             verifyNameLength(Messages.CONSTANT + Messages.NAME, constructLengths.minNameLength, ctx));
 
-        List<IdentifierContext> variables = DeclarationListener.getVariableNames(topLevelCtx);
+        List<IdentifierContext> variables = declarationIndex.getVariableNames(topLevelCtx);
         variables.forEach(ctx ->
             verifyNameLength(Messages.VARIABLE + Messages.NAME, constructLengths.minNameLength, ctx));
     }
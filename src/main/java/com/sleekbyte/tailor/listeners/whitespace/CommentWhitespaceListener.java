@@ -5,11 +5,10 @@ import com.sleekbyte.tailor.common.Messages;
 import com.sleekbyte.tailor.common.Rules;
 import com.sleekbyte.tailor.listeners.CommentAnalyzer;
 import com.sleekbyte.tailor.output.Printer;
+import com.sleekbyte.tailor.utils.CommentExtractor;
 import com.sleekbyte.tailor.utils.ListenerUtil;
 import org.antlr.v4.runtime.Token;
 
-import java.util.List;
-
 /**
  * Class to analyze whitespace in comments.
  */
@@ -17,12 +16,11 @@ public final class CommentWhitespaceListener extends CommentAnalyzer {
     /**
      * Create instance of CommentWhitespaceListener.
      *
-     * @param printer     An instance of Printer
-     * @param singleLineComments List of // comments
-     * @param multilineComments List of /* comments
+     * @param printer          An instance of Printer
+     * @param commentExtractor Comments of the source file
      */
-    public CommentWhitespaceListener(Printer printer, List<Token> singleLineComments, List<Token> multilineComments) {
-        super(printer, singleLineComments, multilineComments);
+    public CommentWhitespaceListener(Printer printer, CommentExtractor commentExtractor) {
+        super(printer, commentExtractor);
     }
 
     @Override
@@ -32,25 +30,20 @@ public final class CommentWhitespaceListener extends CommentAnalyzer {
     }
 
     private void checkWhitespaceInSingleLineComments() {
-        // Matches single-line comments that start with at least one whitespace or are empty
-        String startingSpaceRegex = "(?s)(^///?\\s.*$)|(^///?$)"; // (?s) activates Pattern.DOTALL flag
+        // Single-line comments must start with at least one whitespace or be empty
         singleLineComments.stream()
-            .filter(token -> !token.getText().matches(startingSpaceRegex))
+            .filter(token -> !hasTag(token, CommentExtractor.Tag.START_SPACE))
             .forEach(token -> startingSpaceWarning(token, Messages.SINGLE_LINE_COMMENT));
     }
 
     private void checkWhitespaceInMultilineComments() {
-        // Matches multiline comments that start with at least one whitespace or are empty
-        String startingSpaceRegex = "(?s)(^/\\*\\*?\\s.*$)|(^/\\*\\*\\*?/$)";
-        // Matches multiline comments that end with at least one whitespace character or are empty
-        String endSpaceRegex = "(?s)(^.*\\s\\*/\\n?$)|(^/\\*\\*/\\n?$)";
-
+        // Multiline comments must start and end with at least one whitespace or be empty
         multilineComments.stream()
-            .filter(token -> !token.getText().matches(startingSpaceRegex))
+            .filter(token -> !hasTag(token, CommentExtractor.Tag.START_SPACE))
             .forEach(token -> startingSpaceWarning(token, Messages.MULTILINE_COMMENT));
 
         multilineComments.stream()
-            .filter(token -> !token.getText().matches(endSpaceRegex))
+            .filter(token -> !hasTag(token, CommentExtractor.Tag.END_SPACE))
             .forEach(token -> this.endingSpaceWarning(token, Messages.MULTILINE_COMMENT));
     }
 
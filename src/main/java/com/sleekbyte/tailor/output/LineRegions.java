@@ -0,0 +1,74 @@
+package com.sleekbyte.tailor.output;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Set of line regions, kept sorted and merged so that looking up whether a line falls inside any region takes
+ * logarithmic time in the number of regions.
+ */
+public final class LineRegions {
+
+    // Start line of each region mapped to its end line; regions neither overlap nor touch
+    private TreeMap<Integer, Integer> regions = new TreeMap<>();
+
+    /**
+     * Adds a region, merging it with any regions that it overlaps or is adjacent to.
+     *
+     * @param start line number where the region begins
+     * @param end line number where the region ends
+     */
+    public void add(int start, int end) {
+        if (start > end) {
+            return;
+        }
+        int mergedStart = start;
+        int mergedEnd = end;
+        Map.Entry<Integer, Integer> previous = regions.floorEntry(start);
+        if (previous != null && previous.getValue() >= start - 1) {
+            mergedStart = previous.getKey();
+            mergedEnd = Math.max(mergedEnd, previous.getValue());
+        }
+        Map.Entry<Integer, Integer> next = regions.ceilingEntry(mergedStart);
+        while (next != null && next.getKey() <= mergedEnd + 1) {
+            mergedEnd = Math.max(mergedEnd, next.getValue());
+            regions.remove(next.getKey());
+            next = regions.higherEntry(next.getKey());
+        }
+        regions.put(mergedStart, mergedEnd);
+    }
+
+    /**
+     * Adds all regions of another set.
+     *
+     * @param other regions to add
+     */
+    public void addAll(LineRegions other) {
+        other.regions.forEach(this::add);
+    }
+
+    /**
+     * Checks whether a line falls inside any region.
+     *
+     * @param line line number
+     * @return true if the line is inside a region
+     */
+    public boolean contains(int line) {
+        Map.Entry<Integer, Integer> region = regions.floorEntry(line);
+        return region != null && line <= region.getValue();
+    }
+
+    public boolean isEmpty() {
+        return regions.isEmpty();
+    }
+
+    /**
+     * Returns the number of disjoint regions after merging.
+     *
+     * @return number of regions
+     */
+    public int size() {
+        return regions.size();
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.sleekbyte.tailor.output;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the printers of analyzed files and displays their messages in the order of the files.
+ *
+ * <p>In streaming mode, a file's messages are displayed as soon as the file and all of its predecessors have been
+ * analyzed, after which the printer is released. Otherwise all messages are displayed by {@link #flush()}.</p>
+ */
+public final class OrderedPrinterQueue {
+
+    private Map<File, Integer> positions = new HashMap<>();
+    private Printer[] printers;
+    private int nextPosition = 0;
+    private boolean streaming;
+
+    /**
+     * Constructs a queue for the specified files.
+     *
+     * @param files files to be analyzed, in the order their messages should be displayed
+     * @param streaming whether messages should be displayed as soon as possible
+     */
+    public OrderedPrinterQueue(List<File> files, boolean streaming) {
+        for (int i = 0; i < files.size(); i++) {
+            positions.put(files.get(i), i);
+        }
+        this.printers = new Printer[files.size()];
+        this.streaming = streaming;
+    }
+
+    /**
+     * Adds the printer of an analyzed file.
+     *
+     * @param printer printer containing the messages of an analyzed file
+     * @throws IOException if the formatter cannot display the messages
+     */
+    public synchronized void add(Printer printer) throws IOException {
+        Integer position = positions.get(printer.getInputFile());
+        if (position == null) {
+            throw new IllegalArgumentException("Unexpected input file: " + printer.getInputFile());
+        }
+        printers[position] = printer;
+        if (streaming) {
+            displayReadyPrinters();
+        }
+    }
+
+    /**
+     * Displays the messages of all added printers that have not been displayed yet, in order.
+     *
+     * @throws IOException if the formatter cannot display the messages
+     */
+    public synchronized void flush() throws IOException {
+        displayReadyPrinters();
+        for (; nextPosition < printers.length; nextPosition++) {
+            if (printers[nextPosition] != null) {
+                printers[nextPosition].printAllMessages();
+                printers[nextPosition] = null;
+            }
+        }
+    }
+
+    private void displayReadyPrinters() throws IOException {
+        while (nextPosition < printers.length && printers[nextPosition] != null) {
+            printers[nextPosition].printAllMessages();
+            printers[nextPosition] = null;
+            nextPosition++;
+        }
+    }
+
+}
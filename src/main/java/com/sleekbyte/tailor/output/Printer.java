@@ -1,36 +1,45 @@
 package com.sleekbyte.tailor.output;
 
 import com.sleekbyte.tailor.common.Location;
+import com.sleekbyte.tailor.common.Messages;
 import com.sleekbyte.tailor.common.Rules;
 import com.sleekbyte.tailor.common.Severity;
 import com.sleekbyte.tailor.format.Formatter;
-import com.sleekbyte.tailor.utils.Pair;
 import org.fusesource.jansi.Ansi;
-import org.fusesource.jansi.AnsiConsole;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * Generates and outputs formatted analysis messages for Xcode.
  */
 public final class Printer implements Comparable<Printer> {
 
+    // Classification of each violation, kept as its state in the violation store
+    private static final byte SUPPRESSED = 0;
+    private static final byte HIDDEN = 1;
+    private static final byte DISPLAYABLE = 2;
+
     private File inputFile;
+    private String filePath;
     private Severity maxSeverity;
     private Formatter formatter;
-    private Map<String, ViolationMessage> msgBuffer = new HashMap<>();
-    private Set<Pair<Integer, Integer>> ignoredRegions = new HashSet<>();
+    private ViolationStore msgBuffer = new ViolationStore();
+    private LineRegions ignoredRegions = new LineRegions();
+    private Optional<LineRegions> shownRegions = Optional.empty();
     private boolean shouldPrintParseErrorMessage = false;
 
+    // Messages are only classified when they are queried, so that registering regions never rescans them. Messages
+    // from this index on are not classified yet, and are not included in the counts below.
+    private int numClassifiedMessages = 0;
+    private long numErrorMessages = 0;
+    private long numWarningMessages = 0;
+
     /**
      * Constructs a printer for the specified input file, maximum severity, and color setting.
      *
@@ -87,8 +96,40 @@ public final class Printer implements Comparable<Printer> {
         return new ViolationMessage(rule, filePath, line, column, severity, msg).toString();
     }
 
+    public File getInputFile() {
+        return inputFile;
+    }
+
     public List<ViolationMessage> getViolationMessages() {
-        return new ArrayList<>(this.msgBuffer.values());
+        return getViolationMessagesWithState(SUPPRESSED);
+    }
+
+    /**
+     * Returns the violation messages that fall outside of all ignored regions, and inside the shown regions if any.
+     *
+     * @return list of violation messages that should be displayed
+     */
+    public List<ViolationMessage> getDisplayableViolationMessages() {
+        return getViolationMessagesWithState(DISPLAYABLE);
+    }
+
+    /**
+     * Returns the violation messages that fall outside of all ignored regions, regardless of the shown regions.
+     *
+     * @return list of violation messages that are not suppressed in the source file
+     */
+    public List<ViolationMessage> getUnsuppressedViolationMessages() {
+        return getViolationMessagesWithState(HIDDEN);
+    }
+
+    /**
+     * Adds a previously generated violation message, e.g. one restored from the result cache.
+     *
+     * @param violationMessage violation message to add
+     */
+    public void addViolationMessage(ViolationMessage violationMessage) {
+        addToMsgBuffer(violationMessage.getRule(), violationMessage.getLineNumber(),
+            violationMessage.getColumnNumber(), violationMessage.getSeverity(), violationMessage.getMessage());
     }
 
     /**
@@ -100,20 +141,20 @@ public final class Printer implements Comparable<Printer> {
         if (shouldPrintParseErrorMessage) {
             printParseErrorMessage();
         } else {
-            List<ViolationMessage> outputList = getViolationMessages().stream()
-                .filter(this::shouldDisplayViolationMessage).collect(Collectors.toList());
-
+            List<ViolationMessage> outputList = getDisplayableViolationMessages();
             Collections.sort(outputList);
             formatter.displayViolationMessages(outputList, inputFile);
         }
     }
 
     public long getNumErrorMessages() {
-        return getNumMessagesWithSeverity(Severity.ERROR);
+        classifyMessages();
+        return numErrorMessages;
     }
 
     public long getNumWarningMessages() {
-        return getNumMessagesWithSeverity(Severity.WARNING);
+        classifyMessages();
+        return numWarningMessages;
     }
 
     /**
@@ -123,22 +164,48 @@ public final class Printer implements Comparable<Printer> {
      * @param end line number where the region ends
      */
     public void ignoreRegion(int start, int end) {
-        this.ignoredRegions.add(new Pair<>(start, end));
+        ignoredRegions.add(start, end);
+        invalidateClassification();
+    }
+
+    /**
+     * Suppress analysis output for the given regions.
+     *
+     * @param regions line regions to suppress
+     */
+    public void ignoreRegions(LineRegions regions) {
+        ignoredRegions.addAll(regions);
+        invalidateClassification();
+    }
+
+    /**
+     * Restrict analysis output to the given regions, e.g. the lines changed in version control.
+     *
+     * @param regions line regions to display violations in
+     */
+    public void showOnlyRegions(LineRegions regions) {
+        shownRegions = Optional.of(regions);
+        invalidateClassification();
     }
 
     public void setShouldPrintParseErrorMessage(boolean shouldPrintError) {
         shouldPrintParseErrorMessage = shouldPrintError;
     }
 
+    public boolean shouldPrintParseErrorMessage() {
+        return shouldPrintParseErrorMessage;
+    }
+
     /**
      * Print all rules along with their descriptions to STDOUT.
      */
     public static void printRules() {
         Rules[] rules = Rules.values();
+        PrintStream out = Formatter.getColorOutputStream();
 
-        AnsiConsole.out.println(Ansi.ansi().render(String.format("@|bold %d rules available|@%n", rules.length)));
+        out.println(Ansi.ansi().render(String.format("@|bold %d rules available|@%n", rules.length)));
         for (Rules rule : rules) {
-            AnsiConsole.out.println(Ansi.ansi().render(String.format("@|bold %s|@%n"
+            out.println(Ansi.ansi().render(String.format("@|bold %s|@%n"
                 + "@|underline Description:|@ %s%n"
                 + "@|underline Style Guide:|@ %s%n", rule.getName(), rule.getDescription(), rule.getLink())));
         }
@@ -164,41 +231,83 @@ public final class Printer implements Comparable<Printer> {
     }
 
     private void print(Severity severity, String msg, Location location) {
-        ViolationMessage violationMessage = new ViolationMessage(location.line, location.column, severity, msg);
-        addToMsgBuffer(violationMessage);
+        addToMsgBuffer(null, location.line, location.column, severity, Messages.TAILOR + msg);
     }
 
     private void print(Rules rule, Severity severity, String msg, Location location) {
-        ViolationMessage violationMessage = new ViolationMessage(rule, location.line, location.column, severity, msg);
-        addToMsgBuffer(violationMessage);
+        addToMsgBuffer(rule, location.line, location.column, severity, msg);
+    }
+
+    private void addToMsgBuffer(Rules rule, int line, int column, Severity severity, String msg) {
+        msgBuffer.add(rule, line, column, severity, msg);
     }
 
-    private void addToMsgBuffer(ViolationMessage violationMessage) {
-        try {
-            violationMessage.setFilePath(this.inputFile.getCanonicalPath());
-        } catch (IOException e) {
-            System.err.println("Error in getting canonical path of input file: " + e.getMessage());
+    private void classifyMessage(int index) {
+        int line = msgBuffer.getLineNumber(index);
+        if (ignoredRegions.contains(line)) {
+            msgBuffer.setState(index, SUPPRESSED);
+            return;
+        }
+        if (shownRegions.isPresent() && !shownRegions.get().contains(line)) {
+            msgBuffer.setState(index, HIDDEN);
+            return;
+        }
+        msgBuffer.setState(index, DISPLAYABLE);
+        Severity severity = msgBuffer.getSeverity(index);
+        if (severity.equals(Severity.ERROR)) {
+            numErrorMessages++;
+        } else if (severity.equals(Severity.WARNING)) {
+            numWarningMessages++;
         }
-        this.msgBuffer.put(violationMessage.toString(), violationMessage);
     }
 
-    private void printParseErrorMessage() throws IOException {
-        formatter.displayParseErrorMessage(inputFile);
+    /**
+     * Classifies the messages added since the last query, or all of them if regions changed since then.
+     */
+    private void classifyMessages() {
+        for (int index = numClassifiedMessages; index < msgBuffer.size(); index++) {
+            classifyMessage(index);
+        }
+        numClassifiedMessages = msgBuffer.size();
     }
 
-    private long getNumMessagesWithSeverity(Severity severity) {
-        return msgBuffer.values().stream()
-            .filter(this::shouldDisplayViolationMessage)
-            .filter(msg -> msg.getSeverity().equals(severity)).count();
+    private void invalidateClassification() {
+        numClassifiedMessages = 0;
+        numErrorMessages = 0;
+        numWarningMessages = 0;
     }
 
-    private boolean shouldDisplayViolationMessage(ViolationMessage msg) {
-        for (Pair<Integer, Integer> ignoredRegion : ignoredRegions) {
-            if (ignoredRegion.getFirst() <= msg.getLineNumber()
-                && msg.getLineNumber() <= ignoredRegion.getSecond()) {
-                return false;
+    /**
+     * Materializes the violation messages whose classification is at least the specified one, in the order in which
+     * they were added.
+     */
+    private List<ViolationMessage> getViolationMessagesWithState(byte minimumState) {
+        classifyMessages();
+        List<ViolationMessage> messages = new ArrayList<>();
+        for (int index = 0; index < msgBuffer.size(); index++) {
+            if (msgBuffer.getState(index) >= minimumState) {
+                messages.add(msgBuffer.get(index, getFilePath()));
             }
         }
-        return true;
+        return messages;
+    }
+
+    /**
+     * Resolves the canonical path of the input file once, when the first violation message is materialized.
+     */
+    private String getFilePath() {
+        if (filePath == null) {
+            try {
+                filePath = inputFile.getCanonicalPath();
+            } catch (IOException e) {
+                System.err.println("Error in getting canonical path of input file: " + e.getMessage());
+                filePath = "";
+            }
+        }
+        return filePath;
+    }
+
+    private void printParseErrorMessage() throws IOException {
+        formatter.displayParseErrorMessage(inputFile);
     }
 }
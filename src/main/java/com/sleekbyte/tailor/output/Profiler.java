@@ -0,0 +1,295 @@
+package com.sleekbyte.tailor.output;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.sleekbyte.tailor.antlr.SwiftParser;
+import org.antlr.v4.runtime.atn.DecisionInfo;
+import org.antlr.v4.runtime.atn.ParseInfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Records the wall and CPU time spent in each analysis phase and in each rule listener, aggregated across files,
+ * along with the slowest files and the parser's decision statistics. Safe for use by concurrent analysis tasks.
+ */
+public final class Profiler {
+
+    public static final int SLOWEST_FILES = 10;
+    public static final int COSTLIEST_DECISIONS = 10;
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final boolean cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported();
+    private final Map<Phase, Timing> phases = new EnumMap<>(Phase.class);
+    private final Map<String, Timing> listeners = new ConcurrentHashMap<>();
+    private final Map<File, Long> fileTimes = new ConcurrentHashMap<>();
+    private final Map<Integer, DecisionStats> decisions = new ConcurrentHashMap<>();
+    private final long startTime = System.nanoTime();
+
+    /**
+     * Phases of the analysis of a single file.
+     */
+    public enum Phase {
+        READ("read"),
+        CACHE("cache"),
+        LEX("lex"),
+        PARSE("parse"),
+        COMMENTS("comments"),
+        LISTENERS("listeners"),
+        FILE_LISTENER("file listener"),
+        OUTPUT("output");
+
+        private String name;
+
+        Phase(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * Wall and CPU time of the current thread when a measurement was started.
+     */
+    public final class Stopwatch {
+        private final long wallStart = System.nanoTime();
+        private final long cpuStart = getCpuTime();
+
+        private long getWallTime() {
+            return System.nanoTime() - wallStart;
+        }
+    }
+
+    /**
+     * Accumulated time and number of measurements of a phase or listener.
+     */
+    private static final class Timing {
+        private final LongAdder wallTime = new LongAdder();
+        private final LongAdder cpuTime = new LongAdder();
+        private final LongAdder count = new LongAdder();
+    }
+
+    /**
+     * Statistics of a single parser decision, accumulated from the {@link ParseInfo} of every parsed file.
+     */
+    private static final class DecisionStats {
+        private final int decision;
+        private final String rule;
+        private long invocations;
+        private long predictionNanos;
+        private long sllLookahead;
+        private long llLookahead;
+        private long llFallbacks;
+        private long ambiguities;
+        private long errors;
+
+        private DecisionStats(int decision) {
+            this.decision = decision;
+            this.rule = SwiftParser.ruleNames[SwiftParser._ATN.decisionToState.get(decision).ruleIndex];
+        }
+
+        private synchronized void add(DecisionInfo info) {
+            invocations += info.invocations;
+            predictionNanos += info.timeInPrediction;
+            sllLookahead += info.SLL_TotalLook;
+            llLookahead += info.LL_TotalLook;
+            llFallbacks += info.LL_Fallback;
+            ambiguities += info.ambiguities.size();
+            errors += info.errors.size();
+        }
+    }
+
+    /**
+     * Constructs a profiler. The total run time is measured from construction until a report is written.
+     */
+    public Profiler() {
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new Timing());
+        }
+    }
+
+    /**
+     * Starts a measurement on the current thread.
+     *
+     * @return stopwatch to pass to one of the record methods from the same thread
+     */
+    public Stopwatch start() {
+        return new Stopwatch();
+    }
+
+    /**
+     * Adds the time elapsed since the stopwatch was started to the specified phase.
+     *
+     * @param phase analysis phase that was measured
+     * @param stopwatch stopwatch started by the current thread
+     */
+    public void recordPhase(Phase phase, Stopwatch stopwatch) {
+        record(phases.get(phase), stopwatch);
+    }
+
+    /**
+     * Adds the time elapsed since the stopwatch was started to the specified rule listener.
+     *
+     * @param listener name of the rule listener that was measured
+     * @param stopwatch stopwatch started by the current thread
+     */
+    public void recordListener(String listener, Stopwatch stopwatch) {
+        record(listeners.computeIfAbsent(listener, name -> new Timing()), stopwatch);
+    }
+
+    /**
+     * Records the wall time elapsed since the stopwatch was started as the analysis time of a file.
+     *
+     * @param file file that was analyzed
+     * @param stopwatch stopwatch started by the current thread
+     */
+    public void recordFile(File file, Stopwatch stopwatch) {
+        fileTimes.put(file, stopwatch.getWallTime());
+    }
+
+    /**
+     * Adds the decision statistics gathered while parsing a file.
+     *
+     * @param parseInfo profiling information of a parser
+     */
+    public void recordParseInfo(ParseInfo parseInfo) {
+        for (DecisionInfo info : parseInfo.getDecisionInfo()) {
+            if (info.invocations > 0) {
+                decisions.computeIfAbsent(info.decision, DecisionStats::new).add(info);
+            }
+        }
+    }
+
+    /**
+     * Prints a human-readable report of the recorded measurements.
+     *
+     * @param out stream to print the report to
+     */
+    public void printReport(PrintStream out) {
+        out.println();
+        out.println(String.format("Profile (total %.1f ms, CPU time %s):", toMillis(System.nanoTime() - startTime),
+            cpuTimeSupported ? "measured per thread" : "not supported"));
+
+        out.println(String.format("%n%-32s %12s %12s %8s", "Phase", "Wall (ms)", "CPU (ms)", "Count"));
+        phases.forEach((phase, timing) -> printTiming(out, phase.getName(), timing));
+
+        out.println(String.format("%n%-32s %12s %12s %8s", "Listener", "Wall (ms)", "CPU (ms)", "Count"));
+        sortedListeners().forEach((listener, timing) -> printTiming(out, listener, timing));
+
+        out.println(String.format("%n%12s  %s", "Wall (ms)", "Slowest files"));
+        slowestFiles().forEach((file, time) -> out.println(String.format("%12.1f  %s", toMillis(time), file)));
+
+        out.println(String.format("%n%-40s %10s %12s %10s %10s %8s %6s %6s", "Decision (rule)", "Calls",
+            "Predict (ms)", "SLL look", "LL look", "LL fall", "Ambig", "Errors"));
+        for (DecisionStats stats : costliestDecisions()) {
+            out.println(String.format("%-40s %10d %12.1f %10d %10d %8d %6d %6d",
+                stats.decision + " (" + stats.rule + ")", stats.invocations, toMillis(stats.predictionNanos),
+                stats.sllLookahead, stats.llLookahead, stats.llFallbacks, stats.ambiguities, stats.errors));
+        }
+    }
+
+    /**
+     * Writes the recorded measurements to a JSON file.
+     *
+     * @param path file to write the report to
+     * @throws IOException if the file cannot be written
+     */
+    public void writeReport(Path path) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("totalMillis", toMillis(System.nanoTime() - startTime));
+        report.put("cpuTimeSupported", cpuTimeSupported);
+
+        Map<String, Object> phaseReport = new LinkedHashMap<>();
+        phases.forEach((phase, timing) -> phaseReport.put(phase.getName(), toMap(timing)));
+        report.put("phases", phaseReport);
+
+        Map<String, Object> listenerReport = new LinkedHashMap<>();
+        sortedListeners().forEach((listener, timing) -> listenerReport.put(listener, toMap(timing)));
+        report.put("listeners", listenerReport);
+
+        List<Map<String, Object>> fileReport = new ArrayList<>();
+        for (Map.Entry<File, Long> file : slowestFiles().entrySet()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("path", file.getKey().getPath());
+            entry.put("wallMillis", toMillis(file.getValue()));
+            fileReport.add(entry);
+        }
+        report.put("slowestFiles", fileReport);
+        report.put("decisions", costliestDecisions());
+
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            GSON.toJson(report, writer);
+        }
+    }
+
+    private long getCpuTime() {
+        return cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : 0;
+    }
+
+    private void record(Timing timing, Stopwatch stopwatch) {
+        timing.wallTime.add(stopwatch.getWallTime());
+        timing.cpuTime.add(getCpuTime() - stopwatch.cpuStart);
+        timing.count.increment();
+    }
+
+    private Map<String, Timing> sortedListeners() {
+        return listeners.entrySet().stream()
+            .sorted(Comparator.comparing((Map.Entry<String, Timing> entry) -> entry.getValue().wallTime.sum())
+                .reversed())
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (first, second) -> first,
+                LinkedHashMap::new));
+    }
+
+    private Map<File, Long> slowestFiles() {
+        return fileTimes.entrySet().stream()
+            .sorted(Map.Entry.<File, Long>comparingByValue().reversed())
+            .limit(SLOWEST_FILES)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (first, second) -> first,
+                LinkedHashMap::new));
+    }
+
+    private List<DecisionStats> costliestDecisions() {
+        return decisions.values().stream()
+            .sorted(Comparator.comparingLong((DecisionStats stats) -> stats.predictionNanos).reversed())
+            .limit(COSTLIEST_DECISIONS)
+            .collect(Collectors.toList());
+    }
+
+    private static void printTiming(PrintStream out, String name, Timing timing) {
+        out.println(String.format("%-32s %12.1f %12.1f %8d", name, toMillis(timing.wallTime.sum()),
+            toMillis(timing.cpuTime.sum()), timing.count.sum()));
+    }
+
+    private static Map<String, Object> toMap(Timing timing) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("wallMillis", toMillis(timing.wallTime.sum()));
+        map.put("cpuMillis", toMillis(timing.cpuTime.sum()));
+        map.put("count", timing.count.sum());
+        return map;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+}
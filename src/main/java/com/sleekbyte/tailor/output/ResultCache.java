@@ -0,0 +1,267 @@
+package com.sleekbyte.tailor.output;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.sleekbyte.tailor.common.ConstructLengths;
+import com.sleekbyte.tailor.common.Rules;
+import com.sleekbyte.tailor.common.Severity;
+import com.sleekbyte.tailor.utils.SourceBuffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * On-disk cache of analysis results, keyed by the content hash of each source file.
+ * Results are only reused when the configuration fingerprint (enabled rules, construct lengths, maximum severity,
+ * debug setting and Tailor version) matches the one that produced them. The entries of each fingerprint are kept in
+ * their own subdirectory, so that the entries of other fingerprints can be discarded as a whole when the
+ * configuration changes.
+ */
+public final class ResultCache {
+
+    public static final String DEFAULT_CACHE_DIR = ".tailor-cache";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String ENTRY_SUFFIX = ".json";
+    private static final String HASH_REGEX = "[0-9a-f]{64}";
+    private static final Pattern FINGERPRINT_DIR = Pattern.compile(HASH_REGEX);
+    private static final Pattern ENTRY_FILE = Pattern.compile(HASH_REGEX + "\\.json");
+    private static final Pattern TEMP_FILE = Pattern.compile(HASH_REGEX + "\\.json\\d*\\.tmp");
+    // Temporary files older than this were left behind by a run that did not finish storing an entry
+    private static final long STALE_TEMP_FILE_AGE_MS = TimeUnit.HOURS.toMillis(1);
+    private static final Gson GSON = new Gson();
+
+    private Path cacheDir;
+    private Path entryDir;
+    private String fingerprint;
+    // Content hashes computed during lookup, reused when the analysis result is stored
+    private Map<String, String> contentHashes = new ConcurrentHashMap<>();
+
+    /**
+     * Data object representing the cached analysis result of a single file.
+     */
+    private static class CacheEntry {
+        private String contentHash;
+        private boolean parsed;
+        private List<CachedViolation> violations = new ArrayList<>();
+    }
+
+    /**
+     * Data object representing a single cached violation message.
+     */
+    private static class CachedViolation {
+        private Rules rule;
+        private int line;
+        private int column;
+        private Severity severity;
+        private String message;
+    }
+
+    /**
+     * Constructs a result cache stored in the specified directory.
+     *
+     * @param cacheDir directory containing the cache entries
+     * @param fingerprint fingerprint of the configuration used for analysis
+     */
+    public ResultCache(Path cacheDir, String fingerprint) {
+        this.cacheDir = cacheDir;
+        this.entryDir = cacheDir.resolve(fingerprint);
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Computes a fingerprint of all settings that affect the analysis results of a file.
+     *
+     * @param enabledRules set of enabled rules
+     * @param constructLengths construct length restrictions
+     * @param maxSeverity maximum severity of violation messages
+     * @param debug true if files with parse errors are analyzed rather than skipped, as in debug mode
+     * @param version Tailor version
+     * @return fingerprint of the configuration
+     */
+    public static String fingerprint(Set<Rules> enabledRules, ConstructLengths constructLengths, Severity maxSeverity,
+                                     boolean debug, String version) {
+        String rules = enabledRules.stream().map(Rules::getName).sorted().collect(Collectors.joining(","));
+        String lengths = String.join(",",
+            String.valueOf(constructLengths.maxClassLength),
+            String.valueOf(constructLengths.maxClosureLength),
+            String.valueOf(constructLengths.maxFileLength),
+            String.valueOf(constructLengths.maxFunctionLength),
+            String.valueOf(constructLengths.maxLineLength),
+            String.valueOf(constructLengths.maxNameLength),
+            String.valueOf(constructLengths.maxStructLength),
+            String.valueOf(constructLengths.minNameLength));
+        return hash(String.join(";", version, rules, lengths, maxSeverity.name(), String.valueOf(debug))
+            .getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Removes the entries of all other configuration fingerprints, and the temporary files of entries that were not
+     * completely stored. Only files and directories named like cache entries are removed.
+     */
+    public void prune() {
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+        long staleBefore = System.currentTimeMillis() - STALE_TEMP_FILE_AGE_MS;
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(cacheDir)) {
+            for (Path child : children) {
+                String name = child.getFileName().toString();
+                if (Files.isDirectory(child) && FINGERPRINT_DIR.matcher(name).matches()) {
+                    pruneEntries(child, !name.equals(fingerprint), staleBefore);
+                } else if (ENTRY_FILE.matcher(name).matches() || TEMP_FILE.matcher(name).matches()) {
+                    // Entries stored before they were grouped by fingerprint
+                    Files.deleteIfExists(child);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error in pruning analysis cache: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Removes temporary files last modified before the specified time from a fingerprint directory, and all of its
+     * entries and the directory itself if it belongs to another fingerprint.
+     *
+     * @param dir fingerprint directory
+     * @param otherFingerprint true if the directory holds the entries of another fingerprint
+     * @param staleBefore time before which temporary files are removed, in milliseconds since the epoch
+     * @throws IOException if the directory cannot be read
+     */
+    private static void pruneEntries(Path dir, boolean otherFingerprint, long staleBefore) throws IOException {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                boolean stale = TEMP_FILE.matcher(name).matches()
+                    && (otherFingerprint || Files.getLastModifiedTime(entry).toMillis() < staleBefore);
+                if (stale || otherFingerprint && ENTRY_FILE.matcher(name).matches()) {
+                    Files.deleteIfExists(entry);
+                }
+            }
+        }
+        if (otherFingerprint) {
+            try {
+                Files.deleteIfExists(dir);
+            } catch (DirectoryNotEmptyException e) {
+                // Another run is storing entries for that fingerprint
+            }
+        }
+    }
+
+    /**
+     * Replays the cached analysis result of a file into the specified printer, if one exists for its contents.
+     *
+     * @param source buffered source file to look up
+     * @param printer printer that receives the cached violation messages
+     * @return true if a cached result was replayed, false otherwise
+     */
+    public boolean replay(SourceBuffer source, Printer printer) {
+        File inputFile = source.getFile();
+        try {
+            String contentHash = hash(source.getBytes());
+            Path entryPath = getEntryPath(inputFile);
+            contentHashes.put(inputFile.getPath(), contentHash);
+            if (!Files.isReadable(entryPath)) {
+                return false;
+            }
+
+            CacheEntry entry;
+            try (Reader reader = Files.newBufferedReader(entryPath, StandardCharsets.UTF_8)) {
+                entry = GSON.fromJson(reader, CacheEntry.class);
+            }
+            if (entry == null || !contentHash.equals(entry.contentHash)) {
+                return false;
+            }
+
+            if (!entry.parsed) {
+                printer.setShouldPrintParseErrorMessage(true);
+            }
+            for (CachedViolation violation : entry.violations) {
+                printer.addViolationMessage(new ViolationMessage(violation.rule, violation.line, violation.column,
+                    violation.severity, violation.message));
+            }
+            contentHashes.remove(inputFile.getPath());
+            return true;
+        } catch (IOException | JsonParseException e) {
+            // Treat unreadable or corrupt entries as cache misses
+            return false;
+        }
+    }
+
+    /**
+     * Stores the analysis result held by the specified printer for later runs.
+     *
+     * @param source buffered source file that was analyzed
+     * @param printer printer containing the violation messages for the file
+     */
+    public void store(SourceBuffer source, Printer printer) {
+        File inputFile = source.getFile();
+        try {
+            String contentHash = contentHashes.remove(inputFile.getPath());
+            if (contentHash == null) {
+                contentHash = hash(source.getBytes());
+            }
+
+            CacheEntry entry = new CacheEntry();
+            entry.contentHash = contentHash;
+            entry.parsed = !printer.shouldPrintParseErrorMessage();
+            // Store all messages that are not suppressed in source code, even if only changed lines are displayed
+            for (ViolationMessage msg : printer.getUnsuppressedViolationMessages()) {
+                CachedViolation violation = new CachedViolation();
+                violation.rule = msg.getRule();
+                violation.line = msg.getLineNumber();
+                violation.column = msg.getColumnNumber();
+                violation.severity = msg.getSeverity();
+                violation.message = msg.getMessage();
+                entry.violations.add(violation);
+            }
+
+            // Write to a temporary file first so that concurrent runs never observe a partial entry
+            Files.createDirectories(entryDir);
+            Path entryPath = getEntryPath(inputFile);
+            Path tempPath = Files.createTempFile(entryDir, entryPath.getFileName().toString(), null);
+            try (Writer writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+                GSON.toJson(entry, writer);
+            }
+            Files.move(tempPath, entryPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("Error in writing analysis cache: " + e.getMessage());
+        }
+    }
+
+    private Path getEntryPath(File inputFile) throws IOException {
+        String key = inputFile.getCanonicalPath();
+        return entryDir.resolve(hash(key.getBytes(StandardCharsets.UTF_8)) + ENTRY_SUFFIX);
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.sleekbyte.tailor.output;
+
+import com.sleekbyte.tailor.common.Rules;
+import com.sleekbyte.tailor.common.Severity;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Violations of a single source file, stored column-wise in primitive arrays and deduplicated on their fields.
+ *
+ * <p>Message texts are interned in tables of the distinct messages of each rule, which the stores of all analyzed
+ * files share, so that a message reported for many files is only held once, and {@link ViolationMessage} objects
+ * are only materialized when they are requested.</p>
+ */
+final class ViolationStore {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NO_RULE = -1;
+    private static final int EMPTY_SLOT = -1;
+    private static final Rules[] RULES = Rules.values();
+    private static final Severity[] SEVERITIES = Severity.values();
+    // Distinct messages of each rule, and of tailor itself, shared by the stores of all files
+    private static final Map<Rules, Map<String, String>> RULE_MESSAGES = new EnumMap<>(Rules.class);
+    private static final Map<String, String> TAILOR_MESSAGES = new ConcurrentHashMap<>();
+
+    static {
+        for (Rules rule : RULES) {
+            RULE_MESSAGES.put(rule, new ConcurrentHashMap<>());
+        }
+    }
+
+    private int size = 0;
+    private int[] rules = new int[INITIAL_CAPACITY];
+    private int[] lines = new int[INITIAL_CAPACITY];
+    private int[] columns = new int[INITIAL_CAPACITY];
+    private byte[] severities = new byte[INITIAL_CAPACITY];
+    private String[] messages = new String[INITIAL_CAPACITY];
+    private byte[] states = new byte[INITIAL_CAPACITY];
+
+    // Open addressing hash table of violation indices, twice as large as the arrays above
+    private int[] slots = newSlots(2 * INITIAL_CAPACITY);
+
+    /**
+     * Adds a violation unless an identical one was already added.
+     *
+     * @param rule rule associated with the violation, or null for messages from tailor itself
+     * @param line line number of the violation
+     * @param column column number of the violation
+     * @param severity severity of the violation
+     * @param message description of the violation
+     * @return index of the added violation, or -1 if it is a duplicate
+     */
+    int add(Rules rule, int line, int column, Severity severity, String message) {
+        int ruleId = rule == null ? NO_RULE : rule.ordinal();
+        int severityId = severity.ordinal();
+        String internedMessage = intern(rule, message);
+
+        int mask = slots.length - 1;
+        int slot = hash(ruleId, line, column, severityId, internedMessage) & mask;
+        while (slots[slot] != EMPTY_SLOT) {
+            int index = slots[slot];
+            // Interned messages are equal only if they are the same instance
+            if (lines[index] == line && columns[index] == column && rules[index] == ruleId
+                && severities[index] == severityId && messages[index] == internedMessage) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == lines.length) {
+            grow();
+            return add(rule, line, column, severity, message);
+        }
+        int index = size++;
+        rules[index] = ruleId;
+        lines[index] = line;
+        columns[index] = column;
+        severities[index] = (byte) severityId;
+        messages[index] = internedMessage;
+        slots[slot] = index;
+        return index;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int getLineNumber(int index) {
+        return lines[index];
+    }
+
+    Severity getSeverity(int index) {
+        return SEVERITIES[severities[index]];
+    }
+
+    /**
+     * Returns a state attached to a violation by the owner of the store, zero if none was set.
+     */
+    byte getState(int index) {
+        return states[index];
+    }
+
+    void setState(int index, byte state) {
+        states[index] = state;
+    }
+
+    /**
+     * Materializes a violation as a message object.
+     *
+     * @param index index of the violation
+     * @param filePath path of the source file
+     * @return violation message
+     */
+    ViolationMessage get(int index, String filePath) {
+        Rules rule = rules[index] == NO_RULE ? null : RULES[rules[index]];
+        return new ViolationMessage(rule, filePath, lines[index], columns[index], getSeverity(index),
+            messages[index]);
+    }
+
+    private void grow() {
+        int capacity = 2 * lines.length;
+        rules = Arrays.copyOf(rules, capacity);
+        lines = Arrays.copyOf(lines, capacity);
+        columns = Arrays.copyOf(columns, capacity);
+        severities = Arrays.copyOf(severities, capacity);
+        messages = Arrays.copyOf(messages, capacity);
+        states = Arrays.copyOf(states, capacity);
+
+        slots = newSlots(2 * capacity);
+        int mask = slots.length - 1;
+        for (int index = 0; index < size; index++) {
+            int slot = hash(rules[index], lines[index], columns[index], severities[index], messages[index]) & mask;
+            while (slots[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = index;
+        }
+    }
+
+    private static String intern(Rules rule, String message) {
+        Map<String, String> distinctMessages = rule == null ? TAILOR_MESSAGES : RULE_MESSAGES.get(rule);
+        String internedMessage = distinctMessages.putIfAbsent(message, message);
+        return internedMessage == null ? message : internedMessage;
+    }
+
+    private static int[] newSlots(int length) {
+        int[] slots = new int[length];
+        Arrays.fill(slots, EMPTY_SLOT);
+        return slots;
+    }
+
+    private static int hash(int rule, int line, int column, int severity, String message) {
+        int result = line;
+        result = 31 * result + column;
+        result = 31 * result + rule;
+        result = 31 * result + severity;
+        result = 31 * result + message.hashCode();
+        // Spread the bits, as consecutive lines and columns would otherwise cluster in the table
+        result *= 0x9E3779B9;
+        return result ^ (result >>> 16);
+    }
+
+}
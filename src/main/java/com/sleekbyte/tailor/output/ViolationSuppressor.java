@@ -3,61 +3,73 @@ package com.sleekbyte.tailor.output;
 import com.sleekbyte.tailor.common.Location;
 import com.sleekbyte.tailor.common.Messages;
 import com.sleekbyte.tailor.listeners.CommentAnalyzer;
+import com.sleekbyte.tailor.utils.CommentExtractor;
+import com.sleekbyte.tailor.utils.SourceBuffer;
 import org.antlr.v4.runtime.Token;
 
-import java.util.List;
 import java.util.Stack;
 
 /**
  * Ignore analysis on lines that are marked "tailor:disable".
  */
 public final class ViolationSuppressor extends CommentAnalyzer {
-    private static final String DISABLE_LINE_PATTERN = "// tailor:disable";
-    private static final String TAILOR_OFF = "// tailor:off";
-    private static final String TAILOR_ON = "// tailor:on";
+    private static final String DIRECTIVE_PREFIX = "// tailor:";
 
     /**
      * Create instance of ViolationSuppressor.
      *
-     * @param printer            An instance of Printer
-     * @param singleLineComments List of // comments
-     * @param multilineComments  List of /* comments
+     * @param printer          An instance of Printer
+     * @param commentExtractor Comments of the source file
      */
-    public ViolationSuppressor(Printer printer, List<Token> singleLineComments, List<Token> multilineComments) {
-        super(printer, singleLineComments, multilineComments);
+    public ViolationSuppressor(Printer printer, CommentExtractor commentExtractor) {
+        super(printer, commentExtractor);
+    }
+
+    /**
+     * Checks whether a source file may contain suppression comments, so that files without any can skip the lexer
+     * when no enabled rule needs tokens.
+     *
+     * @param source buffered source file
+     * @return false if the file certainly contains no suppression comments
+     */
+    public static boolean mayContainDirectives(SourceBuffer source) {
+        return source.contains(DIRECTIVE_PREFIX);
     }
 
     @Override
     public void analyze() {
         Stack<Integer> ignoreBlockBeginStack = new Stack<>();
         Token lastSuppressViolationComment = null;
+        LineRegions ignoredRegions = new LineRegions();
 
         for (Token comment : singleLineComments) {
             int lineNumber = comment.getLine();
-            String trimmedComment = comment.getText().trim();
 
-            // Ignore lines that end with the following pattern
-            if (trimmedComment.equals(DISABLE_LINE_PATTERN)) {
-                printer.ignoreRegion(lineNumber, lineNumber);
+            // Ignore lines that end with "// tailor:disable"
+            if (hasTag(comment, CommentExtractor.Tag.DISABLE_LINE)) {
+                ignoredRegions.add(lineNumber, lineNumber);
             }
 
             // Gather ignore regions
-            if (trimmedComment.equals(TAILOR_OFF)) {
+            if (hasTag(comment, CommentExtractor.Tag.TAILOR_OFF)) {
                 ignoreBlockBeginStack.push(lineNumber);
                 lastSuppressViolationComment = comment;
-            } else if (trimmedComment.equals(TAILOR_ON)) {
+            } else if (hasTag(comment, CommentExtractor.Tag.TAILOR_ON)) {
                 if (ignoreBlockBeginStack.empty()) {
                     // Print warning message when "off" and "on" tags are not matched
+                    printer.ignoreRegions(ignoredRegions);
                     printOnOffMismatchWarning(comment);
                     return;
                 }
 
                 // Ignore lines from analysis that fall inside the ignore region
-                printer.ignoreRegion(ignoreBlockBeginStack.pop(), lineNumber);
+                ignoredRegions.add(ignoreBlockBeginStack.pop(), lineNumber);
                 lastSuppressViolationComment = comment;
             }
         }
 
+        printer.ignoreRegions(ignoredRegions);
+
         // Print warning message when "off" and "on" stack is not empty
         if (!ignoreBlockBeginStack.isEmpty() && lastSuppressViolationComment != null) {
             printOnOffMismatchWarning(lastSuppressViolationComment);
@@ -77,6 +77,103 @@ public final class CLIArgumentParser {
         return cmd != null && cmd.hasOption(Messages.PURGE_OPT);
     }
 
+    /**
+     * Check if "--cache" option was specified.
+     */
+    public boolean shouldUseCache() {
+        return cmd != null && cmd.hasOption(Messages.CACHE_OPT);
+    }
+
+    /**
+     * Check if "--jobs" option was specified.
+     */
+    public boolean shouldSetJobs() {
+        return cmd != null && cmd.hasOption(Messages.JOBS_OPT);
+    }
+
+    /**
+     * Returns number specified with --jobs option, or 0 if not specified.
+     */
+    public int numberOfJobs() throws CLIArgumentParserException {
+        return getIntegerArgument(Messages.JOBS_OPT);
+    }
+
+    /**
+     * Check if "--max-heap-budget" option was specified.
+     */
+    public boolean shouldLimitHeap() {
+        return cmd != null && cmd.hasOption(Messages.MAX_HEAP_BUDGET_OPT);
+    }
+
+    /**
+     * Returns number of megabytes specified with --max-heap-budget option, or 0 if not specified.
+     */
+    public int getMaxHeapBudget() throws CLIArgumentParserException {
+        return getIntegerArgument(Messages.MAX_HEAP_BUDGET_OPT);
+    }
+
+    /**
+     * Check if "--daemon" option was specified.
+     */
+    public boolean shouldStartDaemon() {
+        return cmd != null && cmd.hasOption(Messages.DAEMON_OPT);
+    }
+
+    /**
+     * Check if "--client" option was specified.
+     */
+    public boolean shouldRunClient() {
+        return cmd != null && cmd.hasOption(Messages.CLIENT_OPT);
+    }
+
+    /**
+     * Returns port specified with --daemon-port option, or 0 if not specified.
+     */
+    public int getDaemonPort() throws CLIArgumentParserException {
+        return getIntegerArgument(Messages.DAEMON_PORT_OPT);
+    }
+
+    /**
+     * Check if "--profile" or "--profile-file" option was specified.
+     */
+    public boolean shouldProfile() {
+        return cmd != null && (cmd.hasOption(Messages.PROFILE_OPT) || cmd.hasOption(Messages.PROFILE_FILE_OPT));
+    }
+
+    /**
+     * Retrieve profiling report path specified for --profile-file.
+     *
+     * @return path of profiling report
+     */
+    public Optional<String> getProfileFilePath() {
+        return cmd != null ? Optional.ofNullable(cmd.getOptionValue(Messages.PROFILE_FILE_OPT)) : Optional.empty();
+    }
+
+    /**
+     * Retrieve git revision specified for --since.
+     *
+     * @return git revision
+     */
+    public Optional<String> getSinceRevision() {
+        return cmd != null ? Optional.ofNullable(cmd.getOptionValue(Messages.SINCE_OPT)) : Optional.empty();
+    }
+
+    /**
+     * Check if "--changed-lines-only" option was specified.
+     */
+    public boolean shouldOnlyShowChangedLines() {
+        return cmd != null && cmd.hasOption(Messages.CHANGED_LINES_ONLY_OPT);
+    }
+
+    /**
+     * Retrieve shard specified for --shard.
+     *
+     * @return shard as "i/n"
+     */
+    public Optional<String> getShard() {
+        return cmd != null ? Optional.ofNullable(cmd.getOptionValue(Messages.SHARD_OPT)) : Optional.empty();
+    }
+
     /**
      * Returns number specified with --purge option, or 0 if not specified.
      */
@@ -138,6 +235,7 @@ public final class CLIArgumentParser {
         argName = "1-999";
         options.addOption(createSingleArgOpt(Messages.MIN_NAME_LENGTH_OPT, argName, Messages.MIN_NAME_LENGTH_DESC));
         options.addOption(createSingleArgOpt(Messages.PURGE_OPT, argName, Messages.PURGE_DESC));
+        options.addOption(createSingleArgOpt(Messages.JOBS_OPT, argName, Messages.JOBS_DESC));
 
 
         argName = "error|warning (default)";
@@ -163,6 +261,27 @@ public final class CLIArgumentParser {
 
         options.addOption(createNoArgOpt(Messages.LIST_FILES_OPT, Messages.LIST_FILES_DESC));
 
+        options.addOption(createNoArgOpt(Messages.CACHE_OPT, Messages.CACHE_DESC));
+
+        argName = "megabytes";
+        options.addOption(createSingleArgOpt(Messages.MAX_HEAP_BUDGET_OPT, argName, Messages.MAX_HEAP_BUDGET_DESC));
+
+        options.addOption(createNoArgOpt(Messages.DAEMON_OPT, Messages.DAEMON_DESC));
+        options.addOption(createNoArgOpt(Messages.CLIENT_OPT, Messages.CLIENT_DESC));
+        argName = "1024-65535";
+        options.addOption(createSingleArgOpt(Messages.DAEMON_PORT_OPT, argName, Messages.DAEMON_PORT_DESC));
+
+        options.addOption(createNoArgOpt(Messages.PROFILE_OPT, Messages.PROFILE_DESC));
+        argName = "path/to/profile.json";
+        options.addOption(createSingleArgOpt(Messages.PROFILE_FILE_OPT, argName, Messages.PROFILE_FILE_DESC));
+
+        argName = "git-revision";
+        options.addOption(createSingleArgOpt(Messages.SINCE_OPT, argName, Messages.SINCE_DESC));
+        options.addOption(createNoArgOpt(Messages.CHANGED_LINES_ONLY_OPT, Messages.CHANGED_LINES_ONLY_DESC));
+
+        argName = "i/n";
+        options.addOption(createSingleArgOpt(Messages.SHARD_OPT, argName, Messages.SHARD_DESC));
+
         argName = Format.getFormats();
         options.addOption(createSingleArgOpt(Messages.FORMAT_SHORT_OPT, Messages.FORMAT_LONG_OPT, argName,
             Messages.FORMAT_DESC));
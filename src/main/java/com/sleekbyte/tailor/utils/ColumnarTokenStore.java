@@ -0,0 +1,243 @@
+package com.sleekbyte.tailor.utils;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tokens of a source file stored in parallel arrays, one per token attribute, rather than as one object per token.
+ * Acting as the lexer's token factory, the store records each token as it is lexed. Token objects are only created
+ * when a token is retrieved from the store, and read their attributes and text from the store and the source.
+ */
+final class ColumnarTokenStore extends AbstractList<Token> implements TokenFactory<Token> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private Pair<TokenSource, CharStream> source;
+    private int size = 0;
+    private int[] types;
+    private int[] channels;
+    private int[] starts;
+    private int[] stops;
+    private int[] lines;
+    private int[] columns;
+    private Token[] tokens;
+    // Text of tokens whose text differs from the source, which the Swift lexer does not produce
+    private Map<Integer, String> texts = new HashMap<>();
+
+    ColumnarTokenStore(int expectedSize) {
+        int capacity = Math.max(MIN_CAPACITY, expectedSize);
+        types = new int[capacity];
+        channels = new int[capacity];
+        starts = new int[capacity];
+        stops = new int[capacity];
+        lines = new int[capacity];
+        columns = new int[capacity];
+        tokens = new Token[capacity];
+    }
+
+    @Override
+    public Token create(Pair<TokenSource, CharStream> source, int type, String text, int channel, int start, int stop,
+                        int line, int charPositionInLine) {
+        if (start < 0) {
+            // Tokens conjured up by the parser to recover from syntax errors are not part of the input
+            CommonToken token = new CommonToken(source, type, channel, start, stop);
+            token.setLine(line);
+            token.setCharPositionInLine(charPositionInLine);
+            if (text != null) {
+                token.setText(text);
+            }
+            return token;
+        }
+        this.source = source;
+        append(type, text, channel, start, stop, line, charPositionInLine);
+        // The lexer only hands this token to the token stream, which adds it to the store, so it is not kept
+        return new StoredToken(size - 1);
+    }
+
+    @Override
+    public Token create(int type, String text) {
+        return new CommonToken(type, text);
+    }
+
+    @Override
+    public boolean add(Token token) {
+        if (token instanceof StoredToken && ((StoredToken) token).getStore() == this) {
+            // Already recorded when the lexer created it
+            return true;
+        }
+        append(token.getType(), token.getText(), token.getChannel(), token.getStartIndex(), token.getStopIndex(),
+            token.getLine(), token.getCharPositionInLine());
+        tokens[size - 1] = token;
+        return true;
+    }
+
+    @Override
+    public Token get(int index) {
+        checkIndex(index);
+        Token token = tokens[index];
+        if (token == null) {
+            token = new StoredToken(index);
+            tokens[index] = token;
+        }
+        return token;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(tokens, 0, size, null);
+        texts.clear();
+        size = 0;
+    }
+
+    int getType(int index) {
+        checkIndex(index);
+        return types[index];
+    }
+
+    int getChannel(int index) {
+        checkIndex(index);
+        return channels[index];
+    }
+
+    boolean isMaterialized(int index) {
+        checkIndex(index);
+        return tokens[index] != null;
+    }
+
+    private void append(int type, String text, int channel, int start, int stop, int line, int column) {
+        if (size == types.length) {
+            grow();
+        }
+        types[size] = type;
+        channels[size] = channel;
+        starts[size] = start;
+        stops[size] = stop;
+        lines[size] = line;
+        columns[size] = column;
+        if (text != null) {
+            texts.put(size, text);
+        }
+        size++;
+    }
+
+    private void grow() {
+        int capacity = types.length + (types.length >> 1);
+        types = Arrays.copyOf(types, capacity);
+        channels = Arrays.copyOf(channels, capacity);
+        starts = Arrays.copyOf(starts, capacity);
+        stops = Arrays.copyOf(stops, capacity);
+        lines = Arrays.copyOf(lines, capacity);
+        columns = Arrays.copyOf(columns, capacity);
+        tokens = Arrays.copyOf(tokens, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Token whose attributes are read from the store.
+     */
+    private final class StoredToken implements Token {
+
+        private final int index;
+
+        StoredToken(int index) {
+            this.index = index;
+        }
+
+        ColumnarTokenStore getStore() {
+            return ColumnarTokenStore.this;
+        }
+
+        @Override
+        public String getText() {
+            String text = texts.get(index);
+            if (text != null) {
+                return text;
+            }
+            CharStream input = getInputStream();
+            if (input == null) {
+                return null;
+            }
+            int length = input.size();
+            if (starts[index] < length && stops[index] < length) {
+                return input.getText(Interval.of(starts[index], stops[index]));
+            }
+            return "<EOF>";
+        }
+
+        @Override
+        public int getType() {
+            return types[index];
+        }
+
+        @Override
+        public int getLine() {
+            return lines[index];
+        }
+
+        @Override
+        public int getCharPositionInLine() {
+            return columns[index];
+        }
+
+        @Override
+        public int getChannel() {
+            return channels[index];
+        }
+
+        @Override
+        public int getTokenIndex() {
+            return index;
+        }
+
+        @Override
+        public int getStartIndex() {
+            return starts[index];
+        }
+
+        @Override
+        public int getStopIndex() {
+            return stops[index];
+        }
+
+        @Override
+        public TokenSource getTokenSource() {
+            return source.a;
+        }
+
+        @Override
+        public CharStream getInputStream() {
+            return source.b;
+        }
+
+        @Override
+        public String toString() {
+            String text = getText();
+            text = text == null ? "<no text>" : text.replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t");
+            return "[@" + index + "," + getStartIndex() + ":" + getStopIndex() + "='" + text + "',<" + getType() + ">"
+                + (getChannel() > 0 ? ",channel=" + getChannel() : "") + "," + getLine() + ":"
+                + getCharPositionInLine() + "]";
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.sleekbyte.tailor.utils;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Token stream that keeps its tokens in a {@link ColumnarTokenStore}, so that only the tokens that the parser or a
+ * listener retrieves are ever materialized as objects. Skipping the tokens of another channel, such as whitespace,
+ * and filtering tokens by type do not retrieve them.
+ */
+public final class ColumnarTokenStream extends CommonTokenStream {
+
+    // Tokens are a few characters long on average
+    private static final int CHARACTERS_PER_TOKEN = 4;
+
+    private final ColumnarTokenStore store;
+
+    /**
+     * Creates a token stream, which records the tokens produced by the lexer in its token store.
+     *
+     * @param lexer lexer of the source file
+     */
+    public ColumnarTokenStream(Lexer lexer) {
+        super(lexer);
+        store = new ColumnarTokenStore(lexer.getInputStream().size() / CHARACTERS_PER_TOKEN);
+        lexer.setTokenFactory(store);
+        tokens = store;
+    }
+
+    @Override
+    public List<Token> getTokens(int start, int stop, Set<Integer> types) {
+        lazyInit();
+        if (start < 0 || stop >= store.size() || stop < 0 || start >= store.size()) {
+            throw new IndexOutOfBoundsException("start " + start + " or stop " + stop + " not in 0.."
+                + (store.size() - 1));
+        }
+        if (start > stop) {
+            return null;
+        }
+        List<Token> filteredTokens = new ArrayList<>();
+        for (int i = start; i <= stop; i++) {
+            if (types == null || types.contains(store.getType(i))) {
+                filteredTokens.add(store.get(i));
+            }
+        }
+        return filteredTokens.isEmpty() ? null : filteredTokens;
+    }
+
+    @Override
+    protected int nextTokenOnChannel(int index, int channel) {
+        sync(index);
+        if (index >= size()) {
+            return size() - 1;
+        }
+        while (store.getChannel(index) != channel) {
+            if (store.getType(index) == Token.EOF) {
+                return index;
+            }
+            index++;
+            sync(index);
+        }
+        return index;
+    }
+
+    @Override
+    protected int previousTokenOnChannel(int index, int channel) {
+        sync(index);
+        if (index >= size()) {
+            return size() - 1;
+        }
+        while (index >= 0) {
+            if (store.getType(index) == Token.EOF || store.getChannel(index) == channel) {
+                return index;
+            }
+            index--;
+        }
+        return index;
+    }
+
+}
@@ -1,19 +1,80 @@
 package com.sleekbyte.tailor.utils;
 
+import com.sleekbyte.tailor.antlr.SwiftLexer;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Token;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
- * Extract comments from Swift files.
+ * Extract comments from Swift files, and classify each of them once for the comment-based rules.
  */
 public final class CommentExtractor {
 
+    private static final String DISABLE_LINE = "// tailor:disable";
+    private static final String TAILOR_OFF = "// tailor:off";
+    private static final String TAILOR_ON = "// tailor:on";
+    private static final char VERTICAL_TAB = 0x0B;
+    private static final Set<Integer> COMMENT_TYPES =
+        new HashSet<>(Arrays.asList(SwiftLexer.LineComment, SwiftLexer.BlockComment));
+
+    private static final int IGNORE_CASE = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+    private static final Pattern CONTAINS_TODO = Pattern.compile(".*\\btodo\\b.*", IGNORE_CASE);
+    private static final Pattern CONTAINS_FIXME = Pattern.compile(".*\\bfix\\s?me\\b.*", IGNORE_CASE);
+    private static final Pattern CONTAINS_MARK = Pattern.compile(".*\\bmark\\b.*", IGNORE_CASE);
+    private static final Pattern TODO_SYNTAX = Pattern.compile("(?s)// TODO(?:\\(\\S+\\))?: \\S.*");
+    private static final Pattern META_TODO_SYNTAX = Pattern.compile("(?s)// @?TODO(?:\\(\\S+\\))?: \\S.*");
+    private static final Pattern FIXME_SYNTAX = Pattern.compile("(?s)// @?FIXME(?:\\(\\S+\\))?: \\S.*");
+    private static final Pattern WARNING_SYNTAX = Pattern.compile("(?s)// \\!\\!\\!(?:\\(\\S+\\))?: \\S.*");
+    private static final Pattern QUESTION_SYNTAX = Pattern.compile("(?s)// @?\\?\\?\\?(?:\\(\\S+\\))?: \\S.*");
+    private static final Pattern MARK_SYNTAX = Pattern.compile("(?s)// MARK:( -)? \\S.*");
+
     private CommonTokenStream tokenStream;
     private List<Token> singleLineComments = new ArrayList<>();
     private List<Token> multilineComments = new ArrayList<>();
+    private Map<Token, Set<Tag>> tags = new IdentityHashMap<>();
+
+    /**
+     * Properties of a comment that the comment-based rules check for.
+     */
+    public enum Tag {
+        /** Comment is exactly "// tailor:disable", ignoring surrounding whitespace. */
+        DISABLE_LINE,
+        /** Comment is exactly "// tailor:off", ignoring surrounding whitespace. */
+        TAILOR_OFF,
+        /** Comment is exactly "// tailor:on", ignoring surrounding whitespace. */
+        TAILOR_ON,
+        /** Comment starts with whitespace after its opening delimiter, or is empty. */
+        START_SPACE,
+        /** Multiline comment ends with whitespace before its closing delimiter, or is empty. */
+        END_SPACE,
+        /** Comment mentions "todo" as a word, in any case. */
+        MENTIONS_TODO,
+        /** Comment mentions "fixme" or "fix me" as a word, in any case. */
+        MENTIONS_FIXME,
+        /** Comment mentions "mark" as a word, in any case. */
+        MENTIONS_MARK,
+        /** Comment is a well-formed "// TODO: ..." comment. */
+        TODO_SYNTAX,
+        /** Comment is a well-formed "// TODO: ..." or "// @TODO: ..." comment. */
+        META_TODO_SYNTAX,
+        /** Comment is a well-formed "// FIXME: ..." or "// @FIXME: ..." comment. */
+        FIXME_SYNTAX,
+        /** Comment is a well-formed "// !!!: ..." comment. */
+        WARNING_SYNTAX,
+        /** Comment is a well-formed "// ???: ..." or "// @???: ..." comment. */
+        QUESTION_SYNTAX,
+        /** Comment is a well-formed "// MARK: ..." or "// MARK: - ..." comment. */
+        MARK_SYNTAX
+    }
 
     /**
      * Create instance of CommentExtractor.
@@ -33,17 +94,173 @@ public final class CommentExtractor {
         return multilineComments;
     }
 
+    /**
+     * Checks whether an extracted comment has the specified property.
+     *
+     * @param comment single-line or multiline comment returned by this extractor
+     * @param tag property to check for
+     * @return true if the comment has the property
+     */
+    public boolean hasTag(Token comment, Tag tag) {
+        Set<Tag> commentTags = tags.get(comment);
+        return commentTags != null && commentTags.contains(tag);
+    }
+
     private void extractComments() {
-        for (Token token : tokenStream.getTokens()) {
+        if (tokenStream.size() == 0) {
+            return;
+        }
+        // Filter by type first, so that token streams which create tokens on demand only create the comments
+        List<Token> comments = tokenStream.getTokens(0, tokenStream.size() - 1, COMMENT_TYPES);
+        if (comments == null) {
+            return;
+        }
+        for (Token token : comments) {
             if (token.getChannel() != Token.HIDDEN_CHANNEL) {
                 continue;
             }
             if (ListenerUtil.isSingleLineComment(token)) {
                 singleLineComments.add(token);
+                tags.put(token, classifySingleLineComment(token.getText()));
             }
             if (ListenerUtil.isMultilineComment(token)) {
                 multilineComments.add(token);
+                tags.put(token, classifyMultilineComment(token.getText()));
+            }
+        }
+    }
+
+    private static Set<Tag> classifySingleLineComment(String text) {
+        Set<Tag> commentTags = EnumSet.noneOf(Tag.class);
+        // Bounds of the comment without leading and trailing whitespace, used instead of allocating a trimmed copy
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (regionEquals(text, start, end, DISABLE_LINE)) {
+            commentTags.add(Tag.DISABLE_LINE);
+        } else if (regionEquals(text, start, end, TAILOR_OFF)) {
+            commentTags.add(Tag.TAILOR_OFF);
+        } else if (regionEquals(text, start, end, TAILOR_ON)) {
+            commentTags.add(Tag.TAILOR_ON);
+        }
+        if (hasSingleLineStartSpace(text)) {
+            commentTags.add(Tag.START_SPACE);
+        }
+
+        // Only run the regular expressions on comments that contain one of the words they look for
+        boolean todoCandidate = containsIgnoreCase(text, "todo");
+        boolean fixmeCandidate = containsIgnoreCase(text, "fix");
+        boolean markCandidate = containsIgnoreCase(text, "mark");
+        if (!todoCandidate && !fixmeCandidate && !markCandidate) {
+            return commentTags;
+        }
+        if (todoCandidate && matchesRegion(CONTAINS_TODO, text, start, end)) {
+            commentTags.add(Tag.MENTIONS_TODO);
+            addIfMatches(commentTags, Tag.TODO_SYNTAX, TODO_SYNTAX, text, start, end);
+            addIfMatches(commentTags, Tag.META_TODO_SYNTAX, META_TODO_SYNTAX, text, start, end);
+        }
+        if (fixmeCandidate && matchesRegion(CONTAINS_FIXME, text, start, end)) {
+            commentTags.add(Tag.MENTIONS_FIXME);
+            addIfMatches(commentTags, Tag.FIXME_SYNTAX, FIXME_SYNTAX, text, start, end);
+            addIfMatches(commentTags, Tag.WARNING_SYNTAX, WARNING_SYNTAX, text, start, end);
+            addIfMatches(commentTags, Tag.QUESTION_SYNTAX, QUESTION_SYNTAX, text, start, end);
+        }
+        if (markCandidate && matchesRegion(CONTAINS_MARK, text, start, end)) {
+            commentTags.add(Tag.MENTIONS_MARK);
+            addIfMatches(commentTags, Tag.MARK_SYNTAX, MARK_SYNTAX, text, start, end);
+        }
+        return commentTags;
+    }
+
+    private static Set<Tag> classifyMultilineComment(String text) {
+        Set<Tag> commentTags = EnumSet.noneOf(Tag.class);
+        if (hasMultilineStartSpace(text)) {
+            commentTags.add(Tag.START_SPACE);
+        }
+        if (hasMultilineEndSpace(text)) {
+            commentTags.add(Tag.END_SPACE);
+        }
+        return commentTags;
+    }
+
+    private static void addIfMatches(Set<Tag> commentTags, Tag tag, Pattern pattern, String text, int start,
+                                     int end) {
+        if (matchesRegion(pattern, text, start, end)) {
+            commentTags.add(tag);
+        }
+    }
+
+    /**
+     * Checks whether the pattern matches the part of the text between the specified bounds, as if it were matched
+     * against that substring.
+     */
+    private static boolean matchesRegion(Pattern pattern, String text, int start, int end) {
+        return pattern.matcher(text).region(start, end).matches();
+    }
+
+    private static boolean hasSingleLineStartSpace(String text) {
+        // Equivalent to matching (?s)(^///?\s.*$)|(^///?$)
+        if (!text.startsWith("//")) {
+            return false;
+        }
+        if (text.length() == 2) {
+            return true;
+        }
+        if (text.charAt(2) == '/' && (text.length() == 3 || isWhitespace(text.charAt(3)))) {
+            return true;
+        }
+        return isWhitespace(text.charAt(2));
+    }
+
+    private static boolean hasMultilineStartSpace(String text) {
+        // Equivalent to matching (?s)(^/\*\*?\s.*$)|(^/\*\*\*?/$)
+        if (text.equals("/**/") || text.equals("/***/")) {
+            return true;
+        }
+        if (!text.startsWith("/*") || text.length() < 3) {
+            return false;
+        }
+        if (isWhitespace(text.charAt(2))) {
+            return true;
+        }
+        return text.charAt(2) == '*' && text.length() > 3 && isWhitespace(text.charAt(3));
+    }
+
+    private static boolean hasMultilineEndSpace(String text) {
+        // Equivalent to matching (?s)(^.*\s\*/\n?$)|(^/\*\*/\n?$)
+        String body = text.endsWith("\n") ? text.substring(0, text.length() - 1) : text;
+        if (body.equals("/**/")) {
+            return true;
+        }
+        return body.endsWith("*/") && body.length() >= 3 && isWhitespace(body.charAt(body.length() - 3));
+    }
+
+    /**
+     * Checks whether the part of the text between the specified bounds equals the expected string.
+     */
+    private static boolean regionEquals(String text, int start, int end, String expected) {
+        return end - start == expected.length() && text.startsWith(expected, start);
+    }
+
+    private static boolean containsIgnoreCase(String text, String word) {
+        for (int i = 0; i + word.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, word, 0, word.length())) {
+                return true;
             }
         }
+        return false;
+    }
+
+    /**
+     * Checks whether a character is matched by the "\s" character class of regular expressions.
+     */
+    private static boolean isWhitespace(char character) {
+        return character == ' ' || character == '\t' || character == '\n' || character == VERTICAL_TAB
+            || character == '\f' || character == '\r';
     }
 }
@@ -8,9 +8,11 @@ import com.sleekbyte.tailor.common.Messages;
 import com.sleekbyte.tailor.common.Rules;
 import com.sleekbyte.tailor.common.Severity;
 import com.sleekbyte.tailor.common.YamlConfiguration;
+import com.sleekbyte.tailor.daemon.TailorDaemon;
 import com.sleekbyte.tailor.format.Format;
 import com.sleekbyte.tailor.format.Format.IllegalFormatException;
 import com.sleekbyte.tailor.format.Formatter;
+import com.sleekbyte.tailor.output.ResultCache;
 import com.sleekbyte.tailor.utils.CLIArgumentParser.CLIArgumentParserException;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.ParseException;
@@ -71,6 +73,116 @@ public final class Configuration {
             || (yamlConfiguration.isPresent() && yamlConfiguration.get().isPurgeSet());
     }
 
+    public boolean shouldUseCache() {
+        return CLIArgumentParser.shouldUseCache()
+            || (yamlConfiguration.isPresent() && yamlConfiguration.get().isCache());
+    }
+
+    public Path getCacheDirectory() {
+        return Paths.get(ResultCache.DEFAULT_CACHE_DIR);
+    }
+
+    public boolean shouldProfile() {
+        return CLIArgumentParser.shouldProfile();
+    }
+
+    public Optional<Path> getProfileFile() {
+        return CLIArgumentParser.getProfileFilePath().map(Paths::get);
+    }
+
+    /**
+     * Returns the git revision specified by the user for the "since" option.
+     *
+     * @return revision for the "since" option, or empty if not specified
+     * @throws CLIArgumentParserException if the revision starts with "-" and would be mistaken for a git option
+     */
+    public Optional<String> getSinceRevision() throws CLIArgumentParserException {
+        Optional<String> revision = CLIArgumentParser.getSinceRevision();
+        if (revision.isPresent() && revision.get().startsWith("-")) {
+            throw new CLIArgumentParserException(Messages.INVALID_SINCE_REVISION);
+        }
+        return revision;
+    }
+
+    /**
+     * Checks whether only violations on changed lines should be displayed.
+     *
+     * @return true if the "changed-lines-only" option was specified
+     * @throws CLIArgumentParserException if the option was specified without the "since" option
+     */
+    public boolean shouldOnlyShowChangedLines() throws CLIArgumentParserException {
+        if (CLIArgumentParser.shouldOnlyShowChangedLines() && !getSinceRevision().isPresent()) {
+            throw new CLIArgumentParserException(Messages.CHANGED_LINES_ONLY_REQUIRES_SINCE);
+        }
+        return CLIArgumentParser.shouldOnlyShowChangedLines();
+    }
+
+    /**
+     * Returns the shard of the files to analyze specified by the user for the "shard" option.
+     *
+     * @return shard for the "shard" option, or empty if not specified
+     * @throws CLIArgumentParserException if the specified shard is invalid
+     */
+    public Optional<Shard> getShard() throws CLIArgumentParserException {
+        Optional<String> shard = CLIArgumentParser.getShard();
+        if (!shard.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(Shard.parse(shard.get()));
+    }
+
+    public boolean shouldStartDaemon() {
+        return CLIArgumentParser.shouldStartDaemon();
+    }
+
+    public boolean shouldRunClient() {
+        return CLIArgumentParser.shouldRunClient();
+    }
+
+    /**
+     * Checks whether options were specified that write to files other than the output of the run, which a Tailor
+     * daemon must not do on behalf of its clients.
+     *
+     * @return true if the "xcode", "profile-file" or "cache" option was specified
+     */
+    public boolean shouldWriteFiles() {
+        return getXcodeprojPath() != null || getProfileFile().isPresent() || CLIArgumentParser.shouldUseCache();
+    }
+
+    /**
+     * Returns the loopback port used for communication between the Tailor daemon and its clients.
+     *
+     * @return port specified for the "daemon-port" option, or the default port if not specified
+     * @throws CLIArgumentParserException if the specified port is invalid
+     */
+    public int getDaemonPort() throws CLIArgumentParserException {
+        int port = CLIArgumentParser.getDaemonPort();
+        if (port == 0) {
+            return TailorDaemon.DEFAULT_PORT;
+        }
+        if (port < TailorDaemon.MIN_PORT || port > TailorDaemon.MAX_PORT) {
+            throw new CLIArgumentParserException(Messages.INVALID_DAEMON_PORT);
+        }
+        return port;
+    }
+
+    /**
+     * Returns the memory budget specified by the user for the "max-heap-budget" option.
+     *
+     * @return budget for the "max-heap-budget" option, or empty if not specified
+     * @throws CLIArgumentParserException if the specified number of megabytes is invalid
+     */
+    public Optional<MemoryBudget> getMemoryBudget() throws CLIArgumentParserException {
+        if (!CLIArgumentParser.shouldLimitHeap()) {
+            return Optional.empty();
+        }
+        int megabytes = CLIArgumentParser.getMaxHeapBudget();
+        if (megabytes < 1) {
+            throw new CLIArgumentParserException(Messages.INVALID_MAX_HEAP_BUDGET);
+        }
+        return Optional.of(new MemoryBudget(megabytes));
+    }
+
     /**
      * Returns number of files specified by the user for the "purge" option.
      *
@@ -99,6 +211,34 @@ public final class Configuration {
         }
     }
 
+    /**
+     * Returns number of files to analyze in parallel, as specified by the user for the "jobs" option.
+     *
+     * @return number specified for the "jobs" option, or the number of available processors if not specified
+     */
+    public int numberOfJobs() throws CLIArgumentParserException {
+        if (CLIArgumentParser.shouldSetJobs()) {
+            int jobs = CLIArgumentParser.numberOfJobs();
+            if (jobs >= 1) {
+                return jobs;
+            } else {
+                throw new CLIArgumentParserException("Invalid number of jobs specified.");
+            }
+        }
+
+        if (!yamlConfiguration.isPresent() || !yamlConfiguration.get().isJobsSet()) {
+            // Jobs is not set in CLI or config
+            return Runtime.getRuntime().availableProcessors();
+        }
+
+        int jobs = yamlConfiguration.get().getJobs();
+        if (jobs >= 1) {
+            return jobs;
+        } else {
+            throw new YAMLException("Invalid number of jobs specified in config file.");
+        }
+    }
+
     /**
      * Determine if the output should be colorized.
      *
@@ -220,8 +360,8 @@ public final class Configuration {
             }
             URI rootUri = new File(srcRoot.orElse(".")).toURI();
             Finder finder = new Finder(config.getInclude(), config.getExclude(), rootUri);
-            Files.walkFileTree(Paths.get(rootUri), finder);
-            fileNames.addAll(finder.getFileNames().stream().collect(Collectors.toList()));
+            finder.walk(Paths.get(rootUri));
+            fileNames.addAll(finder.getFileNames());
         } else if (srcRoot.isPresent()) {
             pathNames.add(srcRoot.get());
             fileNames.addAll(findFilesInPaths(pathNames));
@@ -316,22 +456,20 @@ public final class Configuration {
         return format;
     }
 
-    private static Set<String> findFilesInPaths(List<String> pathNames) throws IOException {
+    private static Set<String> findFilesInPaths(List<String> pathNames) {
         Set<String> fileNames = new HashSet<>();
+        List<Path> directories = new ArrayList<>();
         for (String pathName : pathNames) {
             File file = new File(pathName);
             if (file.isDirectory()) {
-                Files.walk(Paths.get(pathName))
-                    .filter(path -> path.toString().endsWith(".swift"))
-                    .filter(path -> {
-                            File tempFile = path.toFile();
-                            return tempFile.isFile() && tempFile.canRead();
-                        })
-                    .forEach(path -> fileNames.add(path.toString()));
+                directories.add(Paths.get(pathName));
             } else if (file.isFile() && pathName.endsWith(".swift") && file.canRead()) {
                 fileNames.add(pathName);
             }
         }
+        Finder finder = new Finder();
+        finder.walk(directories);
+        fileNames.addAll(finder.getFileNames());
         return fileNames;
     }
 
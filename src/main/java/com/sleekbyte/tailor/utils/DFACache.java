@@ -0,0 +1,264 @@
+package com.sleekbyte.tailor.utils;
+
+import com.sleekbyte.tailor.antlr.SwiftParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.DecisionInfo;
+import org.antlr.v4.runtime.atn.ParseInfo;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps the DFA cache that all Swift parsers share below a high-water mark. The cache holds the predictions the
+ * parser has learned so far, one DFA per grammar decision, and grows with the variety of source it has seen.
+ *
+ * <p>Once the estimated size of the cache crosses the high-water mark, the DFAs of decisions that have not been
+ * used for a while are discarded, largest first, until the cache is back below the low-water mark. Only if the
+ * decisions still in use alone exceed the high-water mark is the whole cache rebuilt from scratch. The size of the
+ * cache is only checked after the first file and every few files after that, and DFAs are only discarded at a
+ * quiescent point: files being parsed hold a shared lock, and the cache is trimmed while holding the exclusive lock,
+ * so no parser reads the cache or records the decisions it uses while they are replaced.
+ */
+public final class DFACache {
+
+    /** Number of files parsed without using a decision after which its DFA is considered cold. */
+    public static final int DEFAULT_COLD_AFTER_FILES = 32;
+
+    /** Number of files parsed between checks of the size of the cache. */
+    public static final int DEFAULT_CHECK_INTERVAL_FILES = 8;
+
+    // Approximate heap bytes retained by a DFA state, by each of its ATN configurations and by each of its edges
+    private static final long BYTES_PER_STATE = 64;
+    private static final long BYTES_PER_CONFIG = 38;
+    private static final long BYTES_PER_EDGE = 4;
+
+    private final long highWaterMark;
+    private final int coldAfterFiles;
+    private final int checkIntervalFiles;
+    private final ATN atn = SwiftParser._ATN;
+    // Written by parsers while they hold the shared lock, and only read while holding the exclusive lock
+    private final int[] lastUsed = new int[atn.getNumberOfDecisions()];
+    private final AtomicInteger filesParsed = new AtomicInteger(0);
+    private final AtomicBoolean trimming = new AtomicBoolean(false);
+    private final ReadWriteLock quiescence = new ReentrantReadWriteLock(true);
+    private volatile int epoch = 0;
+    private long knownStates = 0;
+
+    /**
+     * Creates a DFA cache policy.
+     *
+     * @param highWaterMark estimated size in bytes above which the cache is trimmed
+     */
+    public DFACache(long highWaterMark) {
+        this(highWaterMark, DEFAULT_COLD_AFTER_FILES);
+    }
+
+    DFACache(long highWaterMark, int coldAfterFiles) {
+        this(highWaterMark, coldAfterFiles, DEFAULT_CHECK_INTERVAL_FILES);
+    }
+
+    DFACache(long highWaterMark, int coldAfterFiles, int checkIntervalFiles) {
+        this.highWaterMark = highWaterMark;
+        this.coldAfterFiles = coldAfterFiles;
+        this.checkIntervalFiles = checkIntervalFiles;
+    }
+
+    /**
+     * Returns the high-water mark used when no memory budget is specified, a quarter of the maximum heap size.
+     *
+     * @return high-water mark in bytes
+     */
+    public static long defaultHighWaterMark() {
+        return Runtime.getRuntime().maxMemory() / 4;
+    }
+
+    /**
+     * Makes a parser record which decisions it uses, and holds off trimming until {@link #afterParse} is called for
+     * the parser. Must be called before parsing, and after profiling is enabled on the parser, if it is.
+     *
+     * @param parser parser that is about to parse a file
+     */
+    public void track(SwiftParser parser) {
+        if (parser.getParseInfo() == null) {
+            parser.setInterpreter(new UsageTrackingSimulator(parser, parser.getInterpreter()));
+        }
+        quiescence.readLock().lock();
+    }
+
+    /**
+     * Records that a parser has finished parsing a file, and trims the cache if it has crossed the high-water mark.
+     * Must be called on the thread that called {@link #track} for the parser. If another thread is already trimming
+     * the cache, this returns immediately.
+     *
+     * @param parser parser that has parsed a file
+     */
+    public void afterParse(SwiftParser parser) {
+        int parsed;
+        try {
+            // Profiling parsers report the decisions they used instead of recording them
+            ParseInfo parseInfo = parser.getParseInfo();
+            if (parseInfo != null) {
+                for (DecisionInfo decisionInfo : parseInfo.getDecisionInfo()) {
+                    if (decisionInfo.invocations > 0) {
+                        lastUsed[decisionInfo.decision] = epoch;
+                    }
+                }
+            }
+            parsed = filesParsed.incrementAndGet();
+            epoch = parsed;
+        } finally {
+            quiescence.readLock().unlock();
+        }
+        if ((parsed - 1) % checkIntervalFiles != 0 || !trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            DFA[] decisionToDFA = parser.getInterpreter().decisionToDFA;
+            // States are only ever added between trims, so the size estimate is unchanged if their number is
+            long states = countStates(decisionToDFA);
+            if (states == knownStates) {
+                return;
+            }
+            knownStates = states;
+            if (estimateSize(decisionToDFA) <= highWaterMark) {
+                return;
+            }
+            // Wait for the files being parsed to finish, and hold off new ones while the cache is trimmed
+            quiescence.writeLock().lock();
+            try {
+                trim(decisionToDFA, highWaterMark, highWaterMark / 2);
+                knownStates = countStates(decisionToDFA);
+            } finally {
+                quiescence.writeLock().unlock();
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    /**
+     * Discards cold decisions, largest first, until the estimated size of the cache is below the low-water mark, or
+     * the whole cache if it is still above the high-water mark.
+     *
+     * @param decisionToDFA DFA cache shared by all Swift parsers
+     * @param high          high-water mark in bytes
+     * @param low           low-water mark in bytes
+     */
+    void trim(DFA[] decisionToDFA, long high, long low) {
+        long[] sizes = new long[decisionToDFA.length];
+        long total = 0;
+        for (int decision = 0; decision < decisionToDFA.length; decision++) {
+            sizes[decision] = estimateSize(decisionToDFA[decision]);
+            total += sizes[decision];
+        }
+        if (total <= high) {
+            return;
+        }
+
+        Integer[] coldest = new Integer[decisionToDFA.length];
+        for (int decision = 0; decision < coldest.length; decision++) {
+            coldest[decision] = decision;
+        }
+        Arrays.sort(coldest, Comparator.<Integer>comparingInt(decision -> lastUsed[decision])
+            .thenComparing(decision -> -sizes[decision]));
+        int now = epoch;
+        for (int decision : coldest) {
+            if (total <= low || now - lastUsed[decision] <= coldAfterFiles) {
+                break;
+            }
+            if (sizes[decision] > 0) {
+                discard(decisionToDFA, decision);
+                total -= sizes[decision];
+            }
+        }
+
+        if (total > high) {
+            for (int decision = 0; decision < decisionToDFA.length; decision++) {
+                discard(decisionToDFA, decision);
+            }
+        }
+    }
+
+    private void discard(DFA[] decisionToDFA, int decision) {
+        decisionToDFA[decision] = new DFA(atn.getDecisionState(decision), decision);
+    }
+
+    /**
+     * Counts the states of the DFAs of all decisions.
+     *
+     * @param decisionToDFA DFA cache shared by all Swift parsers
+     * @return number of states
+     */
+    private static long countStates(DFA[] decisionToDFA) {
+        long states = 0;
+        for (DFA dfa : decisionToDFA) {
+            synchronized (dfa.states) {
+                states += dfa.states.size();
+            }
+        }
+        return states;
+    }
+
+    /**
+     * Estimates the heap retained by the DFAs of all decisions.
+     *
+     * @param decisionToDFA DFA cache shared by all Swift parsers
+     * @return size in bytes
+     */
+    private static long estimateSize(DFA[] decisionToDFA) {
+        long size = 0;
+        for (DFA dfa : decisionToDFA) {
+            size += estimateSize(dfa);
+        }
+        return size;
+    }
+
+    /**
+     * Estimates the heap retained by the DFA of a decision.
+     *
+     * @param dfa DFA of a decision
+     * @return size in bytes
+     */
+    static long estimateSize(DFA dfa) {
+        long size = 0;
+        // Parsers add states to a DFA while holding its lock
+        synchronized (dfa.states) {
+            for (DFAState state : dfa.states.values()) {
+                size += BYTES_PER_STATE + state.configs.size() * BYTES_PER_CONFIG;
+                DFAState[] edges = state.edges;
+                if (edges != null) {
+                    size += edges.length * BYTES_PER_EDGE;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Parser simulator that records the last time each decision was used, in files parsed.
+     */
+    private final class UsageTrackingSimulator extends ParserATNSimulator {
+
+        UsageTrackingSimulator(SwiftParser parser, ParserATNSimulator simulator) {
+            super(parser, parser.getATN(), simulator.decisionToDFA, simulator.getSharedContextCache());
+            setPredictionMode(simulator.getPredictionMode());
+        }
+
+        @Override
+        public int adaptivePredict(TokenStream input, int decision, ParserRuleContext outerContext) {
+            lastUsed[decision] = epoch;
+            return super.adaptivePredict(input, decision, outerContext);
+        }
+
+    }
+
+}
@@ -1,30 +1,41 @@
 package com.sleekbyte.tailor.utils;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystems;
-import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
-import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 /**
  * Finds all files that match the specified pattern.
+ *
+ * <p>Directories are walked in parallel, one fork/join task per directory. Directories that match an exclude pattern
+ * are pruned before they are listed, and include patterns are only evaluated until a directory is included.</p>
  */
-public final class Finder extends SimpleFileVisitor<Path> {
+public final class Finder {
 
-    private Set<String> fileNames = new TreeSet<>();
+    private static final String SWIFT_EXTENSION = ".swift";
+
+    private Set<String> fileNames = ConcurrentHashMap.newKeySet();
     private Set<PathMatcher> includeMatcher;
     private Set<PathMatcher> excludeMatcher;
     private URI base;
-    private Map<Path, Boolean> isParentIncluded = new HashMap<>();
+    private boolean canonicalPaths;
 
     /**
      * Finder constructor.
@@ -43,51 +54,114 @@ public final class Finder extends SimpleFileVisitor<Path> {
             .map(excludePattern -> FileSystems.getDefault().getPathMatcher("glob:" + excludePattern))
             .collect(Collectors.toSet());
         this.base = base;
+        this.canonicalPaths = true;
+    }
+
+    /**
+     * Constructs a finder that includes all Swift files, named by their paths relative to the searched directories.
+     */
+    public Finder() {
+        this.includeMatcher = Collections.emptySet();
+        this.excludeMatcher = Collections.emptySet();
+        this.canonicalPaths = false;
     }
 
     public Set<String> getFileNames() {
-        return fileNames;
+        return new TreeSet<>(fileNames);
     }
 
-    // Invoke the pattern matching method on each file.
-    @Override
-    public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
-        Path relative = Paths.get(base.relativize(file.toUri()).getPath());
-        if (excludeMatcher.stream().anyMatch(pathMatcher -> pathMatcher.matches(relative))) {
-            return FileVisitResult.CONTINUE;
-        }
-        if ((isParentIncluded.getOrDefault(file.getParent(), false)
-            || includeMatcher.stream().anyMatch(pathMatcher -> pathMatcher.matches(relative)))
-            && (file.toFile().getCanonicalPath().endsWith(".swift") && file.toFile().canRead())) {
-            fileNames.add(file.toFile().getCanonicalPath());
+    /**
+     * Walks the specified directory, relative to the base location if include or exclude patterns were specified.
+     *
+     * @param root directory to search
+     */
+    public void walk(Path root) {
+        walk(Collections.singletonList(root));
+    }
+
+    /**
+     * Walks the specified directories in parallel.
+     *
+     * @param roots directories to search
+     */
+    public void walk(List<Path> roots) {
+        List<DirectoryTask> tasks = new ArrayList<>();
+        for (Path root : roots) {
+            if (canonicalPaths) {
+                Path relative = Paths.get(base.relativize(root.toUri()).getPath());
+                if (!isExcluded(relative)) {
+                    tasks.add(new DirectoryTask(root, relative, isIncluded(relative)));
+                }
+            } else {
+                tasks.add(new DirectoryTask(root, root, true));
+            }
         }
-        return FileVisitResult.CONTINUE;
+        ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+    }
+
+    private boolean isExcluded(Path relative) {
+        return excludeMatcher.stream().anyMatch(pathMatcher -> pathMatcher.matches(relative));
+    }
+
+    private boolean isIncluded(Path relative) {
+        return includeMatcher.stream().anyMatch(pathMatcher -> pathMatcher.matches(relative));
     }
 
-    // Invoke the pattern matching method on each directory.
-    @Override
-    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
-        Path relative = Paths.get(base.relativize(dir.toUri()).getPath());
-        if (excludeMatcher.stream().anyMatch(pathMatcher -> pathMatcher.matches(relative))) {
-            return FileVisitResult.SKIP_SUBTREE;
+    private void visitFile(Path file, Path relative, boolean parentIncluded) throws IOException {
+        if (isExcluded(relative) || !(parentIncluded || isIncluded(relative))) {
+            return;
         }
-        if (isParentIncluded.getOrDefault(dir.getParent(), false)
-            || includeMatcher.stream().anyMatch(pathMatcher -> pathMatcher.matches(relative))) {
-            isParentIncluded.put(dir, true);
-            return FileVisitResult.CONTINUE;
+        // Canonicalize once, only for files that are not filtered out by their patterns
+        File inputFile = file.toFile();
+        String fileName = canonicalPaths ? inputFile.getCanonicalPath() : file.toString();
+        if (fileName.endsWith(SWIFT_EXTENSION) && inputFile.isFile() && inputFile.canRead()) {
+            fileNames.add(fileName);
         }
-        return FileVisitResult.CONTINUE;
     }
 
-    @Override
-    public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
-        isParentIncluded.put(dir, false);
-        return super.postVisitDirectory(dir, exc);
-    }
+    /**
+     * Task that visits the entries of a single directory, forking a subtask for each subdirectory that is not
+     * excluded. Symbolic links to directories are treated as files, and are not followed.
+     */
+    private final class DirectoryTask extends RecursiveAction {
+        private Path dir;
+        private Path relative;
+        private boolean included;
 
-    @Override
-    public FileVisitResult visitFileFailed(Path file, IOException exc) {
-        System.err.println(exc.getMessage());
-        return FileVisitResult.CONTINUE;
+        private DirectoryTask(Path dir, Path relative, boolean included) {
+            this.dir = dir;
+            this.relative = relative;
+            this.included = included;
+        }
+
+        @Override
+        protected void compute() {
+            List<DirectoryTask> subdirectories = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+                for (Path entry : entries) {
+                    Path entryRelative = relative.resolve(entry.getFileName());
+                    try {
+                        BasicFileAttributes attributes =
+                            Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                        if (!attributes.isDirectory()) {
+                            visitFile(entry, entryRelative, included);
+                        } else if (!isExcluded(entryRelative)) {
+                            subdirectories.add(new DirectoryTask(entry, entryRelative,
+                                included || isIncluded(entryRelative)));
+                        }
+                    } catch (IOException e) {
+                        System.err.println(e.getMessage());
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println(e.getMessage());
+            }
+            invokeAll(subdirectories);
+        }
     }
 }
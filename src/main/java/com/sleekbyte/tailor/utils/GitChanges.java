@@ -0,0 +1,237 @@
+package com.sleekbyte.tailor.utils;
+
+import com.sleekbyte.tailor.output.LineRegions;
+import com.sleekbyte.tailor.output.Printer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Files and lines changed in the local git working tree since a given revision, including staged, unstaged and
+ * untracked changes. Only the local repository is consulted.
+ */
+public final class GitChanges {
+
+    private static final String GIT = "git";
+    private static final String OPTION_PREFIX = "-";
+    private static final String FILE_HEADER_PREFIX = "diff --git ";
+    private static final String NEW_FILE_PREFIX = "+++ ";
+    private static final String DESTINATION_PREFIX = "b/";
+    private static final String DEV_NULL = "/dev/null";
+    private static final Pattern HUNK_HEADER = Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,(\\d+))? @@");
+
+    // Ranges of added or modified lines of each changed file, keyed by canonical path; empty for untracked files
+    private Map<String, LineRegions> changedLines = new HashMap<>();
+    private Set<String> untrackedFiles = new TreeSet<>();
+
+    /**
+     * Exception thrown when git cannot determine the changes, e.g. for an unknown revision or outside a repository.
+     */
+    public static final class GitException extends IOException {
+        public GitException(String message) {
+            super(message);
+        }
+    }
+
+    private GitChanges() {}
+
+    /**
+     * Collects the changes between the specified revision and the working tree of the repository containing the
+     * current directory.
+     *
+     * @param revision git revision to compare against, e.g. "origin/master"
+     * @return changed files and lines
+     * @throws IOException if git cannot be run or fails, or if the revision could be mistaken for an option
+     */
+    public static GitChanges since(String revision) throws IOException {
+        if (revision.startsWith(OPTION_PREFIX)) {
+            // git would parse the revision as an option of "git diff", such as --output=<file>
+            throw new GitException("Invalid revision " + revision);
+        }
+        File topLevel = new File(git(new File("."), "rev-parse", "--show-toplevel").trim());
+        String diff = git(topLevel, "-c", "core.quotePath=false", "diff", "-U0", "--no-color", "--no-ext-diff",
+            "--no-renames", revision, "--");
+        // Run from the top level directory, so that untracked files outside the current directory are listed too
+        String untrackedFiles = git(topLevel, "ls-files", "--others", "--exclude-standard", "-z");
+        return parse(topLevel, diff, Arrays.asList(untrackedFiles.split("\0")));
+    }
+
+    /**
+     * Collects the changes from the output of git commands.
+     *
+     * @param topLevel top level directory of the repository
+     * @param diff output of "git diff -U0", with file names relative to the top level directory
+     * @param untrackedFiles names of untracked files relative to the top level directory
+     * @return changed files and lines
+     * @throws IOException if the canonical path of a file cannot be determined
+     */
+    static GitChanges parse(File topLevel, String diff, List<String> untrackedFiles) throws IOException {
+        GitChanges changes = new GitChanges();
+        changes.parseDiff(topLevel, diff);
+        for (String fileName : untrackedFiles) {
+            if (!fileName.isEmpty()) {
+                changes.untrackedFiles.add(new File(topLevel, fileName).getCanonicalPath());
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Checks whether a file has been changed or added.
+     *
+     * @param fileName path of the file
+     * @return true if the file has changed
+     * @throws IOException if the canonical path of the file cannot be determined
+     */
+    public boolean contains(String fileName) throws IOException {
+        String path = new File(fileName).getCanonicalPath();
+        return changedLines.containsKey(path) || untrackedFiles.contains(path);
+    }
+
+    /**
+     * Returns the files among the specified ones that have been changed or added.
+     *
+     * @param fileNames paths of files
+     * @return paths of changed files
+     * @throws IOException if the canonical path of a file cannot be determined
+     */
+    public Set<String> filter(Set<String> fileNames) throws IOException {
+        Set<String> changedFileNames = new TreeSet<>();
+        for (String fileName : fileNames) {
+            if (contains(fileName)) {
+                changedFileNames.add(fileName);
+            }
+        }
+        return changedFileNames;
+    }
+
+    /**
+     * Restricts the messages displayed by a printer to the lines of its file that have changed. All lines of
+     * untracked files have changed.
+     *
+     * @param printer printer of a changed file
+     * @throws IOException if the canonical path of the printer's file cannot be determined
+     */
+    public void restrictToChangedLines(Printer printer) throws IOException {
+        String path = printer.getInputFile().getCanonicalPath();
+        if (untrackedFiles.contains(path)) {
+            return;
+        }
+        printer.showOnlyRegions(changedLines.getOrDefault(path, new LineRegions()));
+    }
+
+    private void parseDiff(File topLevel, String diff) throws IOException {
+        LineRegions fileLines = null;
+        // Whether the current line precedes the first hunk of the current file, and may thus name the file
+        boolean inFileHeader = false;
+        for (String line : diff.split("\n")) {
+            if (line.startsWith(FILE_HEADER_PREFIX)) {
+                fileLines = null;
+                inFileHeader = true;
+                continue;
+            }
+            if (inFileHeader && line.startsWith(NEW_FILE_PREFIX)) {
+                // Within hunks, "+++ " starts an added line that begins with "++ " rather than a file name
+                String fileName = unquote(line.substring(NEW_FILE_PREFIX.length()));
+                if (fileName.equals(DEV_NULL)) {
+                    // Deleted file
+                    continue;
+                }
+                if (fileName.startsWith(DESTINATION_PREFIX)) {
+                    fileName = fileName.substring(DESTINATION_PREFIX.length());
+                }
+                fileLines = new LineRegions();
+                changedLines.put(new File(topLevel, fileName).getCanonicalPath(), fileLines);
+                continue;
+            }
+            Matcher hunkHeader = HUNK_HEADER.matcher(line);
+            if (hunkHeader.find()) {
+                inFileHeader = false;
+                if (fileLines == null) {
+                    continue;
+                }
+                int start = Integer.parseInt(hunkHeader.group(1));
+                int count = hunkHeader.group(2) == null ? 1 : Integer.parseInt(hunkHeader.group(2));
+                // A count of zero denotes lines that were only removed
+                if (count > 0) {
+                    fileLines.add(start, start + count - 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the trailing tab that git appends to file names containing spaces, and the quotes and escapes around
+     * file names containing special characters.
+     */
+    private static String unquote(String fileName) {
+        String name = fileName.endsWith("\t") ? fileName.substring(0, fileName.length() - 1) : fileName;
+        if (name.length() < 2 || !name.startsWith("\"") || !name.endsWith("\"")) {
+            return name;
+        }
+        StringBuilder unquoted = new StringBuilder();
+        for (int i = 1; i < name.length() - 1; i++) {
+            char current = name.charAt(i);
+            if (current == '\\' && i + 1 < name.length() - 1) {
+                i++;
+                char escaped = name.charAt(i);
+                unquoted.append(escaped == 't' ? '\t' : escaped == 'n' ? '\n' : escaped);
+            } else {
+                unquoted.append(current);
+            }
+        }
+        return unquoted.toString();
+    }
+
+    private static String git(File directory, String... args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(GIT);
+        command.addAll(Arrays.asList(args));
+        // Write errors to a file rather than a pipe, so that git cannot block on a full pipe, e.g. with a line
+        // ending warning for each file, while its output is being read
+        Path errorFile = Files.createTempFile("tailor-git", ".log");
+        try {
+            Process process = new ProcessBuilder(command).directory(directory).redirectError(errorFile.toFile())
+                .start();
+            process.getOutputStream().close();
+            String output = readFully(process.getInputStream());
+            try {
+                if (process.waitFor() != 0) {
+                    String error = new String(Files.readAllBytes(errorFile), StandardCharsets.UTF_8);
+                    throw new GitException("git " + String.join(" ", args) + " failed: " + error.trim());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GitException("Interrupted while running git");
+            }
+            return output;
+        } finally {
+            Files.deleteIfExists(errorFile);
+        }
+    }
+
+    private static String readFully(InputStream input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int length;
+        while ((length = input.read(buffer)) != -1) {
+            output.write(buffer, 0, length);
+        }
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+}
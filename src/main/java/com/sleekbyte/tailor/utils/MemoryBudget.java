@@ -0,0 +1,85 @@
+package com.sleekbyte.tailor.utils;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limits the heap used by the parse trees and token streams of the files being analyzed in parallel, and by the
+ * parser's DFA cache. Half of the budget is shared by the files in flight, each of which reserves an amount
+ * proportional to its size before it is lexed, and the other half is left to the DFA cache (see {@link DFACache}).
+ */
+public final class MemoryBudget {
+
+    /** Approximate heap bytes retained by the token stream and parse tree built for each byte of source. */
+    public static final long HEAP_BYTES_PER_SOURCE_BYTE = 100;
+
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+    private static final long BYTES_PER_PERMIT = 1024;
+
+    private final long budgetBytes;
+    private final int capacity;
+    private final Semaphore permits;
+
+    /**
+     * Creates a memory budget.
+     *
+     * @param megabytes heap available to parse trees, token streams and the DFA cache
+     */
+    public MemoryBudget(int megabytes) {
+        this.budgetBytes = megabytes * BYTES_PER_MEGABYTE;
+        this.capacity = (int) Math.max(1, budgetBytes / 2 / BYTES_PER_PERMIT);
+        this.permits = new Semaphore(capacity, true);
+    }
+
+    /**
+     * Reserves the heap needed to analyze a file, waiting until files that are already being analyzed release
+     * enough of the budget. A file larger than the budget is analyzed on its own.
+     *
+     * @param sourceBytes size of the file in bytes
+     * @return reservation to close once the file's parse tree and token stream are no longer referenced
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public Reservation reserve(long sourceBytes) throws InterruptedException {
+        int cost = getCost(sourceBytes);
+        permits.acquire(cost);
+        return new Reservation(cost);
+    }
+
+    /**
+     * Returns the part of the budget left to the DFA cache, which is used as its high-water mark.
+     *
+     * @return half of the budget, in bytes
+     */
+    public long getDFAShare() {
+        return budgetBytes / 2;
+    }
+
+    int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    int getCost(long sourceBytes) {
+        long cost = sourceBytes * HEAP_BYTES_PER_SOURCE_BYTE / BYTES_PER_PERMIT;
+        return (int) Math.max(1, Math.min(capacity, cost));
+    }
+
+    /**
+     * Part of the budget held by a file while it is being analyzed.
+     */
+    public final class Reservation implements AutoCloseable {
+        private final int cost;
+        private boolean released = false;
+
+        private Reservation(int cost) {
+            this.cost = cost;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                permits.release(cost);
+            }
+        }
+    }
+
+}
@@ -10,6 +10,8 @@ import org.antlr.v4.runtime.tree.TerminalNodeImpl;
  */
 public final class ParseTreeUtil {
 
+    private static final int LINEAR_SEARCH_THRESHOLD = 8;
+
     /**
      * Return parent `nval` levels above ctx.
      *
@@ -34,6 +36,9 @@ public final class ParseTreeUtil {
     /**
      * Returns node's index with in its parent's child array.
      *
+     * <p>Children are ordered by their start tokens, so large child arrays, e.g. the statements of a flat file, are
+     * binary searched instead of scanned.</p>
+     *
      * @param node A child node
      * @return Node's index or -1 if node is null or doesn't have a parent
      */
@@ -42,6 +47,12 @@ public final class ParseTreeUtil {
             return -1;
         }
         ParseTree parent = node.getParent();
+        if (parent.getChildCount() > LINEAR_SEARCH_THRESHOLD) {
+            int index = searchNodeIndex(parent, node);
+            if (index >= 0) {
+                return index;
+            }
+        }
         for (int i = 0; i < parent.getChildCount(); i++) {
             if (parent.getChild(i) == node) {
                 return i;
@@ -130,6 +141,40 @@ public final class ParseTreeUtil {
         }
     }
 
+    /**
+     * Binary searches the children of a parent for a node by the index of its start token. Children that match no
+     * tokens share their start token with their right sibling, so all children with the same start token are checked.
+     *
+     * @return Node's index, or -1 if it was not found, e.g. because of tokens conjured by error recovery
+     */
+    private static int searchNodeIndex(ParseTree parent, ParseTree node) {
+        int tokenIndex = getStartTokenIndex(node);
+        if (tokenIndex < 0) {
+            return -1;
+        }
+        int low = 0;
+        int high = parent.getChildCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getStartTokenIndex(parent.getChild(mid)) < tokenIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < parent.getChildCount() && getStartTokenIndex(parent.getChild(i)) == tokenIndex; i++) {
+            if (parent.getChild(i) == node) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int getStartTokenIndex(ParseTree node) {
+        Token start = getStartTokenForNode(node);
+        return start == null ? -1 : start.getTokenIndex();
+    }
+
     /**
      * Returns the starting token of the construct represented by node.
      *
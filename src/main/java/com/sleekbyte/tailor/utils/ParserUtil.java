@@ -0,0 +1,41 @@
+package com.sleekbyte.tailor.utils;
+
+import com.sleekbyte.tailor.antlr.SwiftParser;
+import com.sleekbyte.tailor.antlr.SwiftParser.TopLevelContext;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+/**
+ * Class with utility functions for running the Swift parser.
+ */
+public final class ParserUtil {
+
+    /**
+     * Parses a Swift source file in two stages. The first stage uses the faster SLL prediction mode and gives up at
+     * the first syntax error. SLL either produces the same parse tree as full LL prediction or fails, so only input
+     * that SLL cannot handle is reparsed with full LL prediction, which also reports genuine syntax errors.
+     *
+     * @param parser        parser positioned at the start of its token stream
+     * @param errorListener listener notified of syntax errors found by full LL prediction
+     * @return the parse tree of the file
+     */
+    public static TopLevelContext parseTopLevel(SwiftParser parser, ANTLRErrorListener errorListener) {
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            return parser.topLevel();
+        } catch (ParseCancellationException e) {
+            // Rewind the token stream and parse again with full LL prediction and regular error recovery
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.reset();
+            parser.addErrorListener(errorListener);
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            return parser.topLevel();
+        }
+    }
+
+}
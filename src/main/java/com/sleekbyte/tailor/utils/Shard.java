@@ -0,0 +1,114 @@
+package com.sleekbyte.tailor.utils;
+
+import com.sleekbyte.tailor.common.Messages;
+import com.sleekbyte.tailor.utils.CLIArgumentParser.CLIArgumentParserException;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * One of several shards of the files to analyze, so that the analysis of a project can be split across machines.
+ * Every machine that is given the same files assigns them to the same shards: each file is assigned to exactly one
+ * shard, and the shards are balanced by the total size of their files rather than by their number of files.
+ */
+public final class Shard {
+
+    private final int index;
+    private final int count;
+
+    /**
+     * Creates a shard.
+     *
+     * @param index index of the shard, from 1 to {@code count}
+     * @param count number of shards
+     */
+    public Shard(int index, int count) {
+        if (count < 1 || index < 1 || index > count) {
+            throw new IllegalArgumentException("Invalid shard " + index + "/" + count);
+        }
+        this.index = index;
+        this.count = count;
+    }
+
+    /**
+     * Parses a shard specified as "i/n", the i-th of n shards.
+     *
+     * @param shard shard specified by the user
+     * @return the shard
+     * @throws CLIArgumentParserException if the shard is not of the form "i/n" with 1 &lt;= i &lt;= n
+     */
+    public static Shard parse(String shard) throws CLIArgumentParserException {
+        String[] parts = shard.trim().split("/", -1);
+        if (parts.length == 2) {
+            try {
+                int index = Integer.parseInt(parts[0].trim());
+                int count = Integer.parseInt(parts[1].trim());
+                if (count >= 1 && index >= 1 && index <= count) {
+                    return new Shard(index, count);
+                }
+            } catch (NumberFormatException e) {
+                // Reported below
+            }
+        }
+        throw new CLIArgumentParserException(Messages.INVALID_SHARD);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Selects the files that belong to this shard.
+     *
+     * @param fileNames all files to analyze
+     * @return files of this shard
+     */
+    public Set<String> select(Set<String> fileNames) {
+        Map<String, Long> fileSizes =
+            fileNames.stream().collect(Collectors.toMap(Function.identity(), fileName -> new File(fileName).length()));
+        return partition(fileSizes, count).get(index - 1);
+    }
+
+    /**
+     * Partitions files into shards of similar total size. Files are assigned from the largest to the smallest, ties
+     * broken by name, each to the shard with the smallest total size so far, ties broken by shard index.
+     *
+     * @param fileSizes size of each file in bytes
+     * @param count     number of shards
+     * @return files of each shard, by shard index starting from 0
+     */
+    static List<Set<String>> partition(Map<String, Long> fileSizes, int count) {
+        List<Set<String>> shards = new ArrayList<>(count);
+        long[] shardSizes = new long[count];
+        PriorityQueue<Integer> smallest = new PriorityQueue<>(count,
+            Comparator.<Integer>comparingLong(shard -> shardSizes[shard]).thenComparingInt(shard -> shard));
+        for (int shard = 0; shard < count; shard++) {
+            shards.add(new TreeSet<>());
+            smallest.add(shard);
+        }
+
+        List<String> largestFirst = new ArrayList<>(fileSizes.keySet());
+        largestFirst.sort(Comparator.<String>comparingLong(fileName -> -fileSizes.get(fileName))
+            .thenComparing(Comparator.naturalOrder()));
+        for (String fileName : largestFirst) {
+            int shard = smallest.poll();
+            shards.get(shard).add(fileName);
+            shardSizes[shard] += fileSizes.get(fileName);
+            smallest.add(shard);
+        }
+        return shards;
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.sleekbyte.tailor.utils;
+
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CharStream;
+
+import java.io.CharArrayReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * In-memory contents of a source file, read from disk once and shared by the lexer, the file listener and the
+ * result cache.
+ */
+public final class SourceBuffer {
+
+    private File file;
+    private byte[] bytes;
+    private char[] chars;
+
+    private SourceBuffer(File file, byte[] bytes, char[] chars) {
+        this.file = file;
+        this.bytes = bytes;
+        this.chars = chars;
+    }
+
+    /**
+     * Reads the entire contents of a UTF-8 encoded source file.
+     *
+     * @param file the source file to read
+     * @return buffer holding the contents of the file
+     * @throws IOException if the file cannot be read or is not valid UTF-8
+     */
+    public static SourceBuffer read(File file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        CharBuffer decoded = StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(bytes));
+        char[] chars = new char[decoded.remaining()];
+        decoded.get(chars);
+        return new SourceBuffer(file, bytes, chars);
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the raw contents of the file. The returned array is shared and must not be modified.
+     *
+     * @return bytes of the file
+     */
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the number of characters in the file.
+     *
+     * @return length of the decoded contents
+     */
+    public int length() {
+        return chars.length;
+    }
+
+    public char charAt(int index) {
+        return chars[index];
+    }
+
+    /**
+     * Checks whether the file contains the specified text anywhere, without lexing it.
+     *
+     * @param text text to search for
+     * @return true if the text occurs in the file
+     */
+    public boolean contains(String text) {
+        int last = chars.length - text.length();
+        for (int start = 0; start <= last; start++) {
+            int matched = 0;
+            while (matched < text.length() && chars[start + matched] == text.charAt(matched)) {
+                matched++;
+            }
+            if (matched == text.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates a lexer input over the buffered characters without copying them.
+     *
+     * @return character stream positioned at the start of the file
+     */
+    public CharStream newCharStream() {
+        return new ANTLRInputStream(chars, chars.length);
+    }
+
+    /**
+     * Creates a reader over the buffered characters without copying them.
+     *
+     * @return reader positioned at the start of the file
+     */
+    public Reader newReader() {
+        return new CharArrayReader(chars);
+    }
+
+}
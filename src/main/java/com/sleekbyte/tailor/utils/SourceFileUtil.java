@@ -2,19 +2,15 @@ package com.sleekbyte.tailor.utils;
 
 import org.antlr.v4.runtime.ParserRuleContext;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.RandomAccessFile;
-import java.nio.file.Files;
 
 /**
  * Util class for source files.
  */
 public class SourceFileUtil {
 
-    private static final String READ_ONLY_MODE = "r";
-    private static final byte NEWLINE_DELIMITER = (byte) '\n';
+    private static final char NEWLINE_DELIMITER = '\n';
 
     public static boolean fileTooLong(int numOfLines, int maxLength) {
         return maxLength > 0 && numOfLines > maxLength;
@@ -48,25 +44,33 @@ public class SourceFileUtil {
      * @throws IOException if the file cannot be read
      */
     public static boolean singleNewlineTerminated(File inputFile) throws IOException {
-        RandomAccessFile randomAccessFile = new RandomAccessFile(inputFile, READ_ONLY_MODE);
+        return singleNewlineTerminated(SourceBuffer.read(inputFile));
+    }
+
+    /**
+     * Checks whether the contents of a file are terminated with exactly one trailing newline.
+     *
+     * @param source the buffered file to check for a trailing newline
+     * @return true if file is terminated with exactly one newline
+     */
+    public static boolean singleNewlineTerminated(SourceBuffer source) {
+        int length = source.length();
 
         // Zero terminating newlines
-        if (inputFile.length() < 1) {
+        if (length < 1) {
             return true;
         }
-        randomAccessFile.seek(inputFile.length() - 1);
-        if (Byte.compare(randomAccessFile.readByte(), NEWLINE_DELIMITER) != 0) {
+        if (source.charAt(length - 1) != NEWLINE_DELIMITER) {
             return false;
         }
 
         // File contains a single newline character and nothing else
-        if (inputFile.length() < 2) {
+        if (length < 2) {
             return true;
         }
 
         // More than one terminating newline
-        randomAccessFile.seek(inputFile.length() - 2);
-        return (Byte.compare(randomAccessFile.readByte(), NEWLINE_DELIMITER) != 0);
+        return source.charAt(length - 2) != NEWLINE_DELIMITER;
     }
 
     /**
@@ -77,12 +81,16 @@ public class SourceFileUtil {
      * @throws IOException if the file cannot be read
      */
     public static boolean hasLeadingWhitespace(File inputFile) throws IOException {
-        BufferedReader reader = Files.newBufferedReader(inputFile.toPath());
-        int character = reader.read();
-        if (character != -1 && Character.isWhitespace((char) character)) {
-            return true;
-        }
-        reader.close();
-        return false;
+        return hasLeadingWhitespace(SourceBuffer.read(inputFile));
+    }
+
+    /**
+     * Checks whether the contents of a file start with any whitespace characters.
+     *
+     * @param source the buffered file to check for leading whitespace
+     * @return true if file starts with whitespace
+     */
+    public static boolean hasLeadingWhitespace(SourceBuffer source) {
+        return source.length() > 0 && Character.isWhitespace(source.charAt(0));
     }
 }
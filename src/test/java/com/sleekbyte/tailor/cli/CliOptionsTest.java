@@ -12,6 +12,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.contrib.java.lang.system.ExpectedSystemExit;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
 
@@ -20,7 +21,11 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Tests for {@link Tailor} CLI options.
@@ -35,6 +40,8 @@ public final class CliOptionsTest {
 
     @Rule
     public final ExpectedSystemExit exit = ExpectedSystemExit.none();
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
 
     @Before
     public void setUp() throws IOException {
@@ -150,4 +157,76 @@ public final class CliOptionsTest {
         Tailor.main(command);
     }
 
+    @Test
+    public void testMaxHeapBudgetWithInvalidInput() throws IOException {
+        exit.expectSystemExitWithStatus(ExitCode.failure());
+        String inputPath = Paths.get(TEST_DIR).toString();
+        String[] command = { "--max-heap-budget=0", inputPath };
+
+        exit.checkAssertionAfterwards(() ->
+            assertTrue(errContent.toString().startsWith(Messages.INVALID_MAX_HEAP_BUDGET)));
+
+        Tailor.main(command);
+    }
+
+    @Test
+    public void testShardWithInvalidInput() throws IOException {
+        exit.expectSystemExitWithStatus(ExitCode.failure());
+        String inputPath = Paths.get(TEST_DIR).toString();
+        String[] command = { "--shard=3/2", inputPath };
+
+        exit.checkAssertionAfterwards(() -> assertTrue(errContent.toString().startsWith(Messages.INVALID_SHARD)));
+
+        Tailor.main(command);
+    }
+
+    @Test
+    public void testSinceWithOptionAsRevision() throws IOException {
+        exit.expectSystemExitWithStatus(ExitCode.failure());
+        String inputPath = Paths.get(TEST_DIR).toString();
+        String[] command = { "--since=--output=diff.txt", inputPath };
+
+        exit.checkAssertionAfterwards(() ->
+            assertTrue(errContent.toString().startsWith(Messages.INVALID_SINCE_REVISION)));
+
+        Tailor.main(command);
+    }
+
+    @Test
+    public void testMergeShards() throws IOException {
+        String[] files = { TEST_DIR + "UpperCamelCaseTest.swift", TEST_DIR + "LowerCamelCaseTest.swift",
+            TEST_DIR + "SemicolonTest.swift", TEST_DIR + "MultipleImportTest.swift" };
+        final String unsharded = runWithJSONOutput(files);
+        File firstShard = folder.newFile("shard1.json");
+        Files.write(firstShard.toPath(), runWithJSONOutput(files, "--shard=1/2").getBytes(Charset.defaultCharset()));
+        File secondShard = folder.newFile("shard2.json");
+        Files.write(secondShard.toPath(),
+            runWithJSONOutput(files, "--shard", "2/2").getBytes(Charset.defaultCharset()));
+
+        Tailor.main(new String[] { Messages.MERGE_COMMAND, secondShard.getPath(), firstShard.getPath() });
+
+        assertEquals(unsharded, outContent.toString(Charset.defaultCharset().name()));
+    }
+
+    @Test
+    public void testMergeWithoutReports() throws IOException {
+        exit.expectSystemExitWithStatus(ExitCode.failure());
+        String[] command = { Messages.MERGE_COMMAND };
+
+        exit.checkAssertionAfterwards(() ->
+            assertTrue(errContent.toString().startsWith(Messages.NO_REPORTS_TO_MERGE)));
+
+        Tailor.main(command);
+    }
+
+    private String runWithJSONOutput(String[] files, String... options) throws IOException {
+        List<String> command = new ArrayList<>(Arrays.asList("--format=json"));
+        command.addAll(Arrays.asList(options));
+        command.addAll(Arrays.asList(files));
+        Tailor.main(command.toArray(new String[command.size()]));
+        String output = outContent.toString(Charset.defaultCharset().name());
+        outContent.reset();
+        return output;
+    }
+
 }
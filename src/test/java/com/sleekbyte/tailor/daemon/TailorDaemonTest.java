@@ -0,0 +1,165 @@
+package com.sleekbyte.tailor.daemon;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.sleekbyte.tailor.common.ConfigProperties;
+import com.sleekbyte.tailor.common.ExitCode;
+import com.sleekbyte.tailor.common.Messages;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.net.ServerSocket;
+import java.nio.charset.Charset;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Optional;
+
+/**
+ * Tests for {@link TailorDaemon} and {@link TailorClient}.
+ */
+public class TailorDaemonTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+    private ByteArrayOutputStream errContent = new ByteArrayOutputStream();
+    private TailorClient client;
+    private TailorDaemon daemon;
+    private Thread daemonThread;
+    private int port;
+    private Path tokenDirectory;
+
+    @Before
+    public void setUp() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        tokenDirectory = folder.getRoot().toPath().resolve("tokens");
+        client = createClient(tokenDirectory);
+    }
+
+    @After
+    public void tearDown() throws IOException, InterruptedException {
+        if (daemon != null) {
+            daemon.close();
+            daemonThread.join();
+        }
+    }
+
+    @Test
+    public void testClientWithoutDaemon() throws IOException {
+        assertFalse(client.send(new String[]{"--client", "--version"}).isPresent());
+    }
+
+    @Test
+    public void testClientReceivesOutputAndStatus() throws IOException {
+        startDaemon();
+
+        Optional<Integer> status = client.send(new String[]{"--client", "--version"});
+
+        assertTrue(status.isPresent());
+        assertEquals(ExitCode.success(), (int) status.get());
+        assertEquals(new ConfigProperties().getVersion(), getOutput(outContent).trim());
+    }
+
+    @Test
+    public void testDaemonRejectsDaemonModes() throws IOException {
+        startDaemon();
+
+        Optional<Integer> status = client.send(new String[]{"--client", "--daemon"});
+
+        assertTrue(status.isPresent());
+        assertEquals(ExitCode.failure(), (int) status.get());
+        assertTrue(getOutput(errContent).startsWith(Messages.DAEMON_MODES_NOT_ALLOWED));
+    }
+
+    @Test
+    public void testDaemonRejectsClientWithoutToken() throws IOException {
+        startDaemon();
+        Path otherDirectory = folder.newFolder().toPath();
+        Files.write(TailorDaemon.getTokenFile(otherDirectory, port),
+            "not the token".getBytes(Charset.defaultCharset()));
+
+        assertFalse(createClient(otherDirectory).send(new String[]{"--client", "--version"}).isPresent());
+        assertEquals("", getOutput(outContent));
+    }
+
+    @Test
+    public void testTokenIsOnlyReadableByOwner() throws IOException {
+        startDaemon();
+        Path tokenFile = TailorDaemon.getTokenFile(tokenDirectory, port);
+
+        assertTrue(Files.exists(tokenFile));
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(tokenFile)));
+            assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(tokenDirectory)));
+        }
+
+        daemon.close();
+        assertFalse(Files.exists(tokenFile));
+    }
+
+    @Test
+    public void testDaemonRejectsOptionsThatWriteFiles() throws IOException {
+        startDaemon();
+        String profileFile = folder.getRoot().toPath().resolve("profile.json").toString();
+
+        for (String option : new String[]{"--xcode=project.xcodeproj", "--profile-file=" + profileFile, "--cache"}) {
+            errContent.reset();
+            Optional<Integer> status = client.send(new String[]{"--client", option, "--version"});
+
+            assertTrue(status.isPresent());
+            assertEquals(ExitCode.failure(), (int) status.get());
+            assertTrue(getOutput(errContent).startsWith(Messages.FILE_OPTIONS_NOT_ALLOWED));
+        }
+        assertFalse(Files.exists(folder.getRoot().toPath().resolve("profile.json")));
+    }
+
+    private TailorClient createClient(Path directory) throws IOException {
+        String charset = Charset.defaultCharset().name();
+        return new TailorClient(port, directory, new PrintStream(outContent, true, charset),
+            new PrintStream(errContent, true, charset));
+    }
+
+    private void startDaemon() throws IOException {
+        PrintStream stderr = System.err;
+        ByteArrayOutputStream daemonErr = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(daemonErr, true, Charset.defaultCharset().name()));
+        daemon = new TailorDaemon(port, tokenDirectory);
+        daemonThread = new Thread(() -> {
+                try {
+                    daemon.serve();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        daemonThread.start();
+        try {
+            // Wait until the daemon accepts connections
+            while (!getOutput(daemonErr).contains(Messages.DAEMON_LISTENING)) {
+                Thread.sleep(10);
+            }
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            System.setErr(stderr);
+        }
+    }
+
+    private static String getOutput(ByteArrayOutputStream content) throws UnsupportedEncodingException {
+        return content.toString(Charset.defaultCharset().name());
+    }
+
+}
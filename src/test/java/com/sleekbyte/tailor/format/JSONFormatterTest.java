@@ -44,14 +44,12 @@ public final class JSONFormatterTest {
     @Before
     public void setUp() throws UnsupportedEncodingException {
         formatter = new JSONFormatter(colorSettings);
-        formatter.clearFiles();
         outContent = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outContent, false, Charset.defaultCharset().name()));
     }
 
     @After
     public void tearDown() {
-        formatter.clearFiles();
         formatter = null;
         System.setOut(null);
     }
@@ -66,8 +64,9 @@ public final class JSONFormatterTest {
         Collections.sort(messages);
 
         formatter.displayViolationMessages(messages, inputFile);
-        List<Map<String, Object>> actualOutput = formatter.getFiles();
-        assertEquals(expectedOutput(messages), actualOutput);
+        formatter.displaySummary(1, 0, 1, 1);
+        assertEquals(expectedJson(expectedOutput(messages), getSummary(1, 0, 1, 1)),
+            outContent.toString(Charset.defaultCharset().name()));
     }
 
     @Test
@@ -79,7 +78,8 @@ public final class JSONFormatterTest {
         output.put(Messages.VIOLATIONS_KEY, new ArrayList<>());
         List<Object> files = new ArrayList<>();
         files.add(output);
-        assertEquals(files, formatter.getFiles());
+        formatter.displaySummary(1, 1, 0, 0);
+        assertEquals(expectedJson(files, getSummary(1, 1, 0, 0)), outContent.toString(Charset.defaultCharset().name()));
     }
 
     @Test
@@ -88,21 +88,9 @@ public final class JSONFormatterTest {
         final long skipped = 1;
         final long errors = 7;
         final long warnings = 4;
-        final long analyzed = files - skipped;
-        final long violations = errors + warnings;
         formatter.displaySummary(files, skipped, errors, warnings);
 
-        Map<String, Object> summary = new HashMap<>();
-        summary.put(Messages.ANALYZED_KEY, analyzed);
-        summary.put(Messages.SKIPPED_KEY, skipped);
-        summary.put(Messages.VIOLATIONS_KEY, violations);
-        summary.put(Messages.ERRORS_KEY, errors);
-        summary.put(Messages.WARNINGS_KEY, warnings);
-        Map<String, Object> output = new LinkedHashMap<>();
-        output.put(Messages.FILES_KEY, new ArrayList<>());
-        output.put(Messages.SUMMARY_KEY, summary);
-
-        assertEquals(GSON.toJson(output) + System.lineSeparator(),
+        assertEquals(expectedJson(new ArrayList<>(), getSummary(files, skipped, errors, warnings)),
             outContent.toString(Charset.defaultCharset().name()));
     }
 
@@ -116,6 +104,23 @@ public final class JSONFormatterTest {
         assertEquals(ExitCode.FAILURE, formatter.getExitStatus(10));
     }
 
+    private Map<String, Object> getSummary(long files, long skipped, long errors, long warnings) {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put(Messages.ANALYZED_KEY, files - skipped);
+        summary.put(Messages.SKIPPED_KEY, skipped);
+        summary.put(Messages.VIOLATIONS_KEY, errors + warnings);
+        summary.put(Messages.ERRORS_KEY, errors);
+        summary.put(Messages.WARNINGS_KEY, warnings);
+        return summary;
+    }
+
+    private String expectedJson(List<Object> files, Map<String, Object> summary) {
+        Map<String, Object> output = new LinkedHashMap<>();
+        output.put(Messages.FILES_KEY, files);
+        output.put(Messages.SUMMARY_KEY, summary);
+        return GSON.toJson(output) + System.lineSeparator();
+    }
+
     private List<Object> expectedOutput(List<ViolationMessage> list) throws IOException {
         Map<String, Object> output = new HashMap<>();
         output.put(Messages.PATH_KEY, inputFile.getCanonicalPath());
@@ -0,0 +1,137 @@
+package com.sleekbyte.tailor.format;
+
+import static org.junit.Assert.assertEquals;
+
+import com.sleekbyte.tailor.common.ColorSettings;
+import com.sleekbyte.tailor.common.Rules;
+import com.sleekbyte.tailor.common.Severity;
+import com.sleekbyte.tailor.format.JSONMerger.InvalidReportException;
+import com.sleekbyte.tailor.output.ViolationMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests for {@link JSONMerger}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public final class JSONMergerTest {
+
+    private static final ColorSettings colorSettings = new ColorSettings(false, false);
+
+    private ByteArrayOutputStream outContent;
+    private File firstFile = new File("a.swift");
+    private File secondFile = new File("b.swift");
+    private File thirdFile = new File("c.swift");
+
+    @Before
+    public void setUp() throws IOException {
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent, false, Charset.defaultCharset().name()));
+    }
+
+    @After
+    public void tearDown() {
+        System.setOut(null);
+    }
+
+    @Test
+    public void testMergedReportMatchesSingleReport() throws IOException {
+        JSONFormatter formatter = new JSONFormatter(colorSettings);
+        formatter.displayViolationMessages(getMessages(firstFile, Severity.ERROR), firstFile);
+        formatter.displayParseErrorMessage(secondFile);
+        formatter.displayViolationMessages(getMessages(thirdFile, Severity.WARNING), thirdFile);
+        formatter.displaySummary(3, 1, 2, 2);
+        final String expected = getOutput();
+
+        formatter = new JSONFormatter(colorSettings);
+        formatter.displayViolationMessages(getMessages(thirdFile, Severity.WARNING), thirdFile);
+        formatter.displayParseErrorMessage(secondFile);
+        formatter.displaySummary(2, 1, 0, 2);
+        final String secondShard = getOutput();
+
+        formatter = new JSONFormatter(colorSettings);
+        formatter.displayViolationMessages(getMessages(firstFile, Severity.ERROR), firstFile);
+        formatter.displaySummary(1, 0, 2, 0);
+        final String firstShard = getOutput();
+
+        JSONMerger merger = new JSONMerger();
+        merger.add(new StringReader(secondShard));
+        merger.add(new StringReader(firstShard));
+        StringBuilder merged = new StringBuilder();
+        merger.write(merged);
+
+        assertEquals(expected, merged.toString());
+        assertEquals(2, merger.getNumErrors());
+    }
+
+    @Test
+    public void testMergeEmptyReports() throws IOException {
+        JSONFormatter formatter = new JSONFormatter(colorSettings);
+        formatter.displaySummary(0, 0, 0, 0);
+        String empty = getOutput();
+
+        JSONMerger merger = new JSONMerger();
+        merger.add(new StringReader(empty));
+        merger.add(new StringReader(empty));
+        StringBuilder merged = new StringBuilder();
+        merger.write(merged);
+
+        assertEquals(empty, merged.toString());
+        assertEquals(0, merger.getNumErrors());
+    }
+
+    @Test(expected = InvalidReportException.class)
+    public void testFileListedByTwoReports() throws IOException {
+        JSONFormatter formatter = new JSONFormatter(colorSettings);
+        formatter.displayParseErrorMessage(firstFile);
+        formatter.displaySummary(1, 1, 0, 0);
+        String report = getOutput();
+
+        JSONMerger merger = new JSONMerger();
+        merger.add(new StringReader(report));
+        merger.add(new StringReader(report));
+    }
+
+    @Test(expected = InvalidReportException.class)
+    public void testReportWithoutSummary() throws InvalidReportException {
+        new JSONMerger().add(new StringReader("{\"files\": []}"));
+    }
+
+    @Test(expected = InvalidReportException.class)
+    public void testMalformedReport() throws InvalidReportException {
+        new JSONMerger().add(new StringReader("{\"files\": ["));
+    }
+
+    @Test(expected = InvalidReportException.class)
+    public void testEmptyReport() throws InvalidReportException {
+        new JSONMerger().add(new StringReader(""));
+    }
+
+    private List<ViolationMessage> getMessages(File file, Severity severity) throws IOException {
+        List<ViolationMessage> messages = new ArrayList<>();
+        messages.add(new ViolationMessage(Rules.LOWER_CAMEL_CASE, file.getCanonicalPath(), 10, 12, severity, "one"));
+        messages.add(new ViolationMessage(Rules.TRAILING_WHITESPACE, file.getCanonicalPath(), 11, 0, severity, "two"));
+        Collections.sort(messages);
+        return messages;
+    }
+
+    private String getOutput() throws IOException {
+        String output = outContent.toString(Charset.defaultCharset().name());
+        outContent.reset();
+        return output;
+    }
+
+}
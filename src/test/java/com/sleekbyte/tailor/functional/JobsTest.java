@@ -0,0 +1,29 @@
+package com.sleekbyte.tailor.functional;
+
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class JobsTest extends RuleTest {
+
+    @Override
+    protected String getInputFilePath() {
+        return "ColonWhitespaceTest.swift";
+    }
+
+    @Override
+    protected void addAllExpectedMsgs() {
+        ColonWhitespaceTest colonWhitespaceTest = new ColonWhitespaceTest();
+        colonWhitespaceTest.inputFile = inputFile;
+        colonWhitespaceTest.expectedMessages = new ArrayList<>();
+        colonWhitespaceTest.addAllExpectedMsgs();
+        this.expectedMessages.addAll(colonWhitespaceTest.expectedMessages);
+    }
+
+    @Override
+    protected String[] getCommandArgs() {
+        return new String[]{ "--jobs", "1", "--only=colon-whitespace" };
+    }
+}
@@ -0,0 +1,34 @@
+package com.sleekbyte.tailor.functional;
+
+import com.sleekbyte.tailor.common.Messages;
+import com.sleekbyte.tailor.common.Rules;
+import com.sleekbyte.tailor.common.Severity;
+import com.sleekbyte.tailor.output.Printer;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/**
+ * Functional tests for honoring suppression comments in files that cannot be lexed when only line-based rules are
+ * enabled.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public final class LineRulesWithLexerErrorsTest extends RuleTest {
+
+    @Override
+    protected String getInputFilePath() {
+        // Input that cannot be lexed, and that would be skipped if lexer errors were not recovered from
+        return "LexFailureWithDirectiveTest.swift";
+    }
+
+    @Override
+    protected String[] getCommandArgs() {
+        return new String[] {"--only=max-line-length", "--max-line-length", "20"};
+    }
+
+    @Override
+    protected void addAllExpectedMsgs() {
+        expectedMessages.add(Printer.genOutputStringForTest(Rules.MAX_LINE_LENGTH, inputFile.getName(), 2, 21,
+            Severity.WARNING, Messages.LINE + Messages.EXCEEDS_CHARACTER_LIMIT + " (" + 25 + "/" + 20 + ")"));
+    }
+
+}
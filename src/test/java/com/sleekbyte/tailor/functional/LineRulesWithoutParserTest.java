@@ -0,0 +1,33 @@
+package com.sleekbyte.tailor.functional;
+
+import com.sleekbyte.tailor.common.Messages;
+import com.sleekbyte.tailor.common.Rules;
+import com.sleekbyte.tailor.common.Severity;
+import com.sleekbyte.tailor.output.Printer;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/**
+ * Functional tests for analyzing files without parsing them when only line-based rules are enabled.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public final class LineRulesWithoutParserTest extends RuleTest {
+
+    @Override
+    protected String getInputFilePath() {
+        // Input that cannot be parsed, which would be skipped if the parser ran
+        return "ParseFailureTest.swift";
+    }
+
+    @Override
+    protected String[] getCommandArgs() {
+        return new String[] {"--only=max-line-length,trailing-whitespace", "--max-line-length", "20"};
+    }
+
+    @Override
+    protected void addAllExpectedMsgs() {
+        expectedMessages.add(Printer.genOutputStringForTest(Rules.MAX_LINE_LENGTH, inputFile.getName(), 1, 21,
+            Severity.WARNING, Messages.LINE + Messages.EXCEEDS_CHARACTER_LIMIT + " (" + 32 + "/" + 20 + ")"));
+    }
+
+}
@@ -1,13 +1,36 @@
 package com.sleekbyte.tailor.functional;
 
+import static org.junit.Assert.assertEquals;
+
+import com.sleekbyte.tailor.common.Messages;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class PurgeTest extends RuleTest {
 
+    private ByteArrayOutputStream errContent;
+
+    @Before
+    public void captureErrors() throws IOException {
+        errContent = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(errContent, false, Charset.defaultCharset().name()));
+    }
+
+    @After
+    public void checkDeprecationWarning() throws IOException {
+        System.setErr(null);
+        assertEquals(Messages.PURGE_DEPRECATED, errContent.toString(Charset.defaultCharset().name()).trim());
+    }
+
     @Override
     protected String getInputFilePath() {
         return "ColonWhitespaceTest.swift";
@@ -393,6 +393,24 @@ public final class YamlConfigurationTest {
         Tailor.main(command);
     }
 
+    @Test
+    public void testInvalidJobs() throws IOException {
+        exit.expectSystemExitWithStatus(ExitCode.failure());
+
+        exit.checkAssertionAfterwards(() ->
+            assertTrue("STDERR should contain error message",
+                errContent.toString().contains("Invalid number of jobs specified in config file")));
+
+        File configurationFile = invalidJobsConfig(".tailor.yml");
+        String[] command = new String[] {
+            "--only", "terminating-semicolon",
+            "--config", configurationFile.getAbsolutePath(),
+            "--no-color"
+        };
+
+        Tailor.main(command);
+    }
+
     private void addExpectedMsg(int line, int column, Rules rule, String msg, String fileName) {
         expectedMessages.add(
             Printer.genOutputStringForTest(rule, inputFile.getName() + "/" + fileName,
@@ -479,4 +497,16 @@ public final class YamlConfigurationTest {
         return configFile;
     }
 
+    private File invalidJobsConfig(String fileName) throws IOException {
+        File configFile = folder.newFile(fileName);
+        Writer streamWriter = new OutputStreamWriter(new FileOutputStream(configFile), Charset.forName("UTF-8"));
+        PrintWriter printWriter = new PrintWriter(streamWriter);
+        printWriter.println("jobs: 0");
+        printWriter.println("include:");
+        printWriter.println("  - '**/" + YAML_TEST_1 + "'");
+        streamWriter.close();
+        printWriter.close();
+        return configFile;
+    }
+
 }
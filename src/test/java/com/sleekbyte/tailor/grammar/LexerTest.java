@@ -0,0 +1,78 @@
+package com.sleekbyte.tailor.grammar;
+
+import static org.junit.Assert.assertEquals;
+
+import com.sleekbyte.tailor.antlr.SwiftLexer;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for whitespace and operator tokens produced by {@link SwiftLexer}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LexerTest {
+
+    @Test
+    public void testHorizontalWhitespaceIsCoalesced() {
+        assertEquals(Arrays.asList("let", " \t ", "x", "  ", "=", " ", "1", "\r", "\n", "\n", "    ", "y", "<EOF>"),
+            getTokenTexts("let \t x  = 1\r\n\n    y"));
+    }
+
+    @Test
+    public void testCommentsKeepTheirNewline() {
+        assertEquals(Arrays.asList("  ", "// a\n", "\n", "/* b */\n", "  ", "z", "<EOF>"),
+            getTokenTexts("  // a\n\n/* b */\n  z"));
+    }
+
+    @Test
+    public void testWhitespaceTokenPositions() {
+        List<Token> tokens = lex("a\n  \tb");
+        assertEquals(SwiftLexer.WS, tokens.get(2).getType());
+        assertEquals(Token.HIDDEN_CHANNEL, tokens.get(2).getChannel());
+        assertEquals(2, tokens.get(2).getLine());
+        assertEquals(0, tokens.get(2).getCharPositionInLine());
+        assertEquals(3, tokens.get(3).getCharPositionInLine());
+    }
+
+    @Test
+    public void testCompoundOperatorsAreSingleTokens() {
+        assertEquals(Arrays.asList("a", "+=", "1", "b", "--", "c", "|||", "d", "&", "+", "e", "<EOF>"),
+            getDefaultChannelTokenTexts("a += 1\nb--\nc ||| d&+e"));
+        assertEquals(SwiftLexer.CompoundOperator, lex("a += 1").get(2).getType());
+    }
+
+    @Test
+    public void testOperatorsSharingCharactersWithOtherSyntaxAreSplit() {
+        assertEquals(Arrays.asList("x", ":", "A", "<", "B", "<", "C", ">", ">", "=", "y", "<EOF>"),
+            getDefaultChannelTokenTexts("x: A<B<C>> = y"));
+        assertEquals(Arrays.asList("x", ":", "Int", "?", "?", "=", "a", "!", "=", "b", "&&", "c", "||", "d", "<EOF>"),
+            getDefaultChannelTokenTexts("x: Int??= a!=b&&c||d"));
+        assertEquals(Arrays.asList("a", "+", "// c\n", "b", "*", "/* d */", "<EOF>"),
+            getTokenTexts("a+// c\nb*/* d */").stream().filter(text -> !text.trim().isEmpty())
+                .collect(Collectors.toList()));
+    }
+
+    private static List<Token> lex(String source) {
+        CommonTokenStream tokenStream = new CommonTokenStream(new SwiftLexer(new ANTLRInputStream(source)));
+        tokenStream.fill();
+        return tokenStream.getTokens();
+    }
+
+    private static List<String> getTokenTexts(String source) {
+        return lex(source).stream().map(Token::getText).collect(Collectors.toList());
+    }
+
+    private static List<String> getDefaultChannelTokenTexts(String source) {
+        return lex(source).stream().filter(token -> token.getChannel() == Token.DEFAULT_CHANNEL).map(Token::getText)
+            .collect(Collectors.toList());
+    }
+
+}
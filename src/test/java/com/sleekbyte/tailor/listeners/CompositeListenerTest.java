@@ -0,0 +1,137 @@
+package com.sleekbyte.tailor.listeners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.sleekbyte.tailor.antlr.SwiftBaseListener;
+import com.sleekbyte.tailor.antlr.SwiftLexer;
+import com.sleekbyte.tailor.antlr.SwiftParser;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests for {@link CompositeListener}.
+ */
+public class CompositeListenerTest {
+
+    private static final String SOURCE = "import Foundation\n\nfunc foo() {\n    let x = 1\n}\n\nfunc bar() {}\n";
+
+    private SwiftParser.TopLevelContext tree;
+
+    /**
+     * Listener that records the callbacks it receives.
+     */
+    private static final class RecordingListener extends SwiftBaseListener {
+        private List<String> events = new ArrayList<>();
+
+        @Override
+        public void enterFunctionDeclaration(SwiftParser.FunctionDeclarationContext ctx) {
+            events.add("enter " + ctx.functionName().getText());
+        }
+
+        @Override
+        public void exitFunctionDeclaration(SwiftParser.FunctionDeclarationContext ctx) {
+            events.add("exit " + ctx.functionName().getText());
+        }
+
+        @Override
+        public void enterConstantDeclaration(SwiftParser.ConstantDeclarationContext ctx) {
+            events.add("constant " + ctx.getText());
+        }
+    }
+
+    /**
+     * Listener that counts every rule it is notified of.
+     */
+    private static final class CountingListener extends SwiftBaseListener {
+        private int numRules = 0;
+
+        @Override
+        public void enterEveryRule(ParserRuleContext ctx) {
+            numRules++;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        SwiftLexer lexer = new SwiftLexer(new ANTLRInputStream(SOURCE));
+        tree = new SwiftParser(new CommonTokenStream(lexer)).topLevel();
+    }
+
+    @Test
+    public void testSinglePassMatchesIndividualWalks() {
+        RecordingListener expected = new RecordingListener();
+        CountingListener expectedCount = new CountingListener();
+        new ParseTreeWalker().walk(expected, tree);
+        new ParseTreeWalker().walk(expectedCount, tree);
+
+        RecordingListener actual = new RecordingListener();
+        CountingListener actualCount = new CountingListener();
+        new ParseTreeWalker().walk(new CompositeListener(Arrays.asList(actual, actualCount)), tree);
+
+        assertEquals(Arrays.asList("enter foo", "constant letx=1", "exit foo", "enter bar", "exit bar"),
+            actual.events);
+        assertEquals(expected.events, actual.events);
+        assertEquals(expectedCount.numRules, actualCount.numRules);
+    }
+
+    @Test
+    public void testCompositesOfSameListenerClassesNotifyTheirOwnListeners() {
+        RecordingListener first = new RecordingListener();
+        new ParseTreeWalker().walk(new CompositeListener(Arrays.asList(first, new CountingListener())), tree);
+
+        RecordingListener second = new RecordingListener();
+        CountingListener secondCount = new CountingListener();
+        new ParseTreeWalker().walk(new CompositeListener(Arrays.asList(second, secondCount)), tree);
+
+        assertEquals(first.events, second.events);
+        assertTrue(secondCount.numRules > 0);
+    }
+
+    @Test
+    public void testListenerOverridingOnlyExitEveryRuleIsNotified() {
+        CountingListener expected = new CountingListener();
+        new ParseTreeWalker().walk(expected, tree);
+
+        int[] numExits = new int[1];
+        SwiftBaseListener exitOnly = new SwiftBaseListener() {
+            @Override
+            public void exitEveryRule(ParserRuleContext ctx) {
+                numExits[0]++;
+            }
+        };
+        new ParseTreeWalker().walk(new CompositeListener(Arrays.asList(exitOnly)), tree);
+
+        assertEquals(expected.numRules, numExits[0]);
+    }
+
+    @Test
+    public void testListenersAreNotifiedInOrder() {
+        List<String> events = new ArrayList<>();
+        SwiftBaseListener first = new SwiftBaseListener() {
+            @Override
+            public void enterConstantDeclaration(SwiftParser.ConstantDeclarationContext ctx) {
+                events.add("first");
+            }
+        };
+        SwiftBaseListener second = new SwiftBaseListener() {
+            @Override
+            public void enterConstantDeclaration(SwiftParser.ConstantDeclarationContext ctx) {
+                events.add("second");
+            }
+        };
+        new ParseTreeWalker().walk(new CompositeListener(Arrays.asList(first, second)), tree);
+        new ParseTreeWalker().walk(new CompositeListener(Arrays.asList(second, first)), tree);
+
+        assertEquals(Arrays.asList("first", "second", "second", "first"), events);
+    }
+
+}
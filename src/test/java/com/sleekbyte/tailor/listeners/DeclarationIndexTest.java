@@ -0,0 +1,60 @@
+package com.sleekbyte.tailor.listeners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.sleekbyte.tailor.antlr.SwiftLexer;
+import com.sleekbyte.tailor.antlr.SwiftParser;
+import com.sleekbyte.tailor.antlr.SwiftParser.IdentifierContext;
+import com.sleekbyte.tailor.antlr.SwiftParser.TopLevelContext;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for {@link DeclarationIndex}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DeclarationIndexTest {
+
+    private static final String SOURCE = "let first = 1\n"
+        + "var second = 2\n"
+        + "func foo(external local: Int) {\n"
+        + "    if let third = bar(), var fourth = baz() {}\n"
+        + "    let (fifth, sixth) = (1, 2)\n"
+        + "}\n";
+
+    private DeclarationIndex declarationIndex = new DeclarationIndex();
+
+    @Test
+    public void testConstantAndVariableNames() {
+        TopLevelContext tree = parse(SOURCE);
+
+        assertEquals(Arrays.asList("first", "external", "local", "third", "fifth", "sixth"),
+            getNames(declarationIndex.getConstantNames(tree)));
+        assertEquals(Arrays.asList("second", "fourth"), getNames(declarationIndex.getVariableNames(tree)));
+    }
+
+    @Test
+    public void testTreeIsIndexedOnce() {
+        TopLevelContext tree = parse(SOURCE);
+
+        assertSame(declarationIndex.getConstantNames(tree), declarationIndex.getConstantNames(tree));
+        assertSame(declarationIndex.getVariableNames(tree), declarationIndex.getVariableNames(tree));
+    }
+
+    private static TopLevelContext parse(String source) {
+        return new SwiftParser(new CommonTokenStream(new SwiftLexer(new ANTLRInputStream(source)))).topLevel();
+    }
+
+    private static List<String> getNames(List<IdentifierContext> identifiers) {
+        return identifiers.stream().map(IdentifierContext::getText).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.sleekbyte.tailor.listeners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import com.sleekbyte.tailor.antlr.SwiftBaseListener;
+import com.sleekbyte.tailor.antlr.SwiftLexer;
+import com.sleekbyte.tailor.common.ColorSettings;
+import com.sleekbyte.tailor.common.ConstructLengths;
+import com.sleekbyte.tailor.common.Rules;
+import com.sleekbyte.tailor.common.Severity;
+import com.sleekbyte.tailor.format.XcodeFormatter;
+import com.sleekbyte.tailor.listeners.lengths.MaxLengthListener;
+import com.sleekbyte.tailor.listeners.lengths.MinLengthListener;
+import com.sleekbyte.tailor.listeners.whitespace.CommentWhitespaceListener;
+import com.sleekbyte.tailor.output.Printer;
+import com.sleekbyte.tailor.utils.CommentExtractor;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for {@link ListenerRegistry}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ListenerRegistryTest {
+
+    // Rules checked by the file and length listeners
+    private static final Set<Rules> RULES_WITHOUT_FACTORY = EnumSet.of(Rules.LEADING_WHITESPACE,
+        Rules.MAX_CLASS_LENGTH, Rules.MAX_CLOSURE_LENGTH, Rules.MAX_FILE_LENGTH, Rules.MAX_FUNCTION_LENGTH,
+        Rules.MAX_LINE_LENGTH, Rules.MAX_NAME_LENGTH, Rules.MAX_STRUCT_LENGTH, Rules.MIN_NAME_LENGTH,
+        Rules.TERMINATING_NEWLINE, Rules.TRAILING_WHITESPACE);
+
+    private Printer printer;
+    private CommonTokenStream tokenStream;
+
+    @Before
+    public void setUp() {
+        XcodeFormatter formatter = new XcodeFormatter(new ColorSettings(false, false));
+        printer = new Printer(new File("test.swift"), Severity.WARNING, formatter);
+        tokenStream = new CommonTokenStream(new SwiftLexer(new ANTLRInputStream("// TODO: foo\nlet x = 1\n")));
+        tokenStream.fill();
+    }
+
+    @Test
+    public void testEveryRuleHasAListener() {
+        for (Rules rule : Rules.values()) {
+            ListenerRegistry registry = new ListenerRegistry(EnumSet.of(rule), new ConstructLengths());
+            int numListeners = registry.createListeners(printer, tokenStream).size()
+                + registry.createCommentAnalyzers(printer, new CommentExtractor(tokenStream)).size();
+            // Besides the length listeners, which are always created
+            int expectedListeners = RULES_WITHOUT_FACTORY.contains(rule) ? 2 : 3;
+            assertEquals(rule.getName(), expectedListeners, numListeners);
+        }
+    }
+
+    @Test
+    public void testOnlyFileAndLengthRulesHaveNoFactory() {
+        for (Rules rule : Rules.values()) {
+            boolean hasFactory = rule.getListenerFactory().isPresent() || rule.getCommentAnalyzerFactory().isPresent();
+            assertEquals(rule.getName(), !RULES_WITHOUT_FACTORY.contains(rule), hasFactory);
+        }
+    }
+
+    @Test
+    public void testOnlyEnabledRulesHaveListeners() {
+        ListenerRegistry registry = new ListenerRegistry(
+            EnumSet.of(Rules.BRACE_STYLE, Rules.COMMENT_WHITESPACE, Rules.MAX_LINE_LENGTH), new ConstructLengths());
+
+        assertEquals(new HashSet<>(Arrays.asList(BraceStyleListener.class.getName(), MinLengthListener.class.getName(),
+            MaxLengthListener.class.getName())), getClassNames(registry.createListeners(printer, tokenStream)));
+        assertEquals(new HashSet<>(Arrays.asList(CommentWhitespaceListener.class.getName())),
+            getClassNames(registry.createCommentAnalyzers(printer, new CommentExtractor(tokenStream))));
+    }
+
+    @Test
+    public void testListenersAreCreatedForEachFile() {
+        ListenerRegistry registry = new ListenerRegistry(EnumSet.of(Rules.UPPER_CAMEL_CASE), new ConstructLengths());
+
+        List<SwiftBaseListener> first = registry.createListeners(printer, tokenStream);
+        List<SwiftBaseListener> second = registry.createListeners(printer, tokenStream);
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getClass(), second.get(i).getClass());
+            assertNotSame(first.get(i), second.get(i));
+        }
+    }
+
+    private static Set<String> getClassNames(List<?> listeners) {
+        return listeners.stream().map(listener -> listener.getClass().getName()).collect(Collectors.toSet());
+    }
+
+}
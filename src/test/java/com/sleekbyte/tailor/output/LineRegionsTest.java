@@ -0,0 +1,81 @@
+package com.sleekbyte.tailor.output;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/**
+ * Tests for {@link LineRegions}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LineRegionsTest {
+
+    private LineRegions regions = new LineRegions();
+
+    @Test
+    public void testEmptyRegionsContainNothing() {
+        assertTrue(regions.isEmpty());
+        assertFalse(regions.contains(1));
+    }
+
+    @Test
+    public void testContainsBoundaries() {
+        regions.add(5, 10);
+
+        assertFalse(regions.contains(4));
+        assertTrue(regions.contains(5));
+        assertTrue(regions.contains(10));
+        assertFalse(regions.contains(11));
+    }
+
+    @Test
+    public void testOverlappingAndAdjacentRegionsAreMerged() {
+        regions.add(10, 12);
+        regions.add(1, 3);
+        regions.add(4, 4);
+        regions.add(11, 20);
+        regions.add(30, 30);
+
+        assertEquals(3, regions.size());
+        assertTrue(regions.contains(4));
+        assertTrue(regions.contains(20));
+        assertFalse(regions.contains(21));
+        assertTrue(regions.contains(30));
+    }
+
+    @Test
+    public void testRegionSpanningSeveralRegions() {
+        regions.add(1, 2);
+        regions.add(5, 6);
+        regions.add(9, 10);
+        regions.add(2, 9);
+
+        assertEquals(1, regions.size());
+        for (int line = 1; line <= 10; line++) {
+            assertTrue(regions.contains(line));
+        }
+    }
+
+    @Test
+    public void testInvertedRegionIsIgnored() {
+        regions.add(5, 4);
+
+        assertTrue(regions.isEmpty());
+    }
+
+    @Test
+    public void testAddAll() {
+        LineRegions other = new LineRegions();
+        other.add(3, 4);
+        regions.add(1, 2);
+        regions.addAll(other);
+
+        assertEquals(1, regions.size());
+        assertTrue(regions.contains(4));
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.sleekbyte.tailor.output;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sleekbyte.tailor.common.Severity;
+import com.sleekbyte.tailor.format.Formatter;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests for {@link OrderedPrinterQueue}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class OrderedPrinterQueueTest {
+
+    private Formatter formatter = mock(Formatter.class);
+    private File first = new File("A.swift");
+    private File second = new File("B.swift");
+    private File third = new File("C.swift");
+    private List<File> files = Arrays.asList(first, second, third);
+
+    @Test
+    public void testStreamingDisplaysFilesInOrderOnceReady() throws IOException {
+        OrderedPrinterQueue queue = new OrderedPrinterQueue(files, true);
+
+        queue.add(new Printer(second, Severity.WARNING, formatter));
+        queue.add(new Printer(third, Severity.WARNING, formatter));
+        verify(formatter, never()).displayViolationMessages(any(), any());
+
+        queue.add(new Printer(first, Severity.WARNING, formatter));
+        InOrder inOrder = inOrder(formatter);
+        inOrder.verify(formatter).displayViolationMessages(any(), eq(first));
+        inOrder.verify(formatter).displayViolationMessages(any(), eq(second));
+        inOrder.verify(formatter).displayViolationMessages(any(), eq(third));
+    }
+
+    @Test
+    public void testBufferedDisplaysFilesOnFlush() throws IOException {
+        OrderedPrinterQueue queue = new OrderedPrinterQueue(files, false);
+
+        Printer unparsed = new Printer(third, Severity.WARNING, formatter);
+        unparsed.setShouldPrintParseErrorMessage(true);
+        queue.add(unparsed);
+        queue.add(new Printer(first, Severity.WARNING, formatter));
+        queue.add(new Printer(second, Severity.WARNING, formatter));
+        verify(formatter, never()).displayViolationMessages(any(), any());
+
+        queue.flush();
+        InOrder inOrder = inOrder(formatter);
+        inOrder.verify(formatter).displayViolationMessages(any(), eq(first));
+        inOrder.verify(formatter).displayViolationMessages(any(), eq(second));
+        inOrder.verify(formatter).displayParseErrorMessage(third);
+    }
+
+}
@@ -99,6 +99,59 @@ public class PrinterTest {
         warnPrinter.printAllMessages();
     }
 
+    @Test
+    public void testShowOnlyRegions() {
+        printer.warn(Rules.LOWER_CAMEL_CASE, WARNING_MSG, new Location(1, COLUMN_NUMBER));
+        printer.warn(Rules.LOWER_CAMEL_CASE, WARNING_MSG, new Location(LINE_NUMBER, COLUMN_NUMBER));
+        printer.ignoreRegion(LINE_NUMBER + 1, LINE_NUMBER + 1);
+        printer.warn(Rules.LOWER_CAMEL_CASE, WARNING_MSG, new Location(LINE_NUMBER + 1, COLUMN_NUMBER));
+        LineRegions shownRegions = new LineRegions();
+        shownRegions.add(LINE_NUMBER, LINE_NUMBER + 1);
+        printer.showOnlyRegions(shownRegions);
+
+        List<ViolationMessage> displayable = printer.getDisplayableViolationMessages();
+        assertEquals(1, displayable.size());
+        assertEquals(LINE_NUMBER, displayable.get(0).getLineNumber());
+        assertEquals(1, printer.getNumWarningMessages());
+        assertEquals(2, printer.getUnsuppressedViolationMessages().size());
+    }
+
+    @Test
+    public void testRegionIgnoredAfterMessagesAdded() {
+        printer.error(Rules.LOWER_CAMEL_CASE, ERROR_MSG, new Location(LINE_NUMBER, COLUMN_NUMBER));
+        printer.warn(Rules.LOWER_CAMEL_CASE, WARNING_MSG, new Location(LINE_NUMBER + 1, COLUMN_NUMBER));
+        assertEquals(1, printer.getNumErrorMessages());
+        assertEquals(1, printer.getNumWarningMessages());
+
+        printer.ignoreRegion(LINE_NUMBER, LINE_NUMBER);
+        assertEquals(0, printer.getNumErrorMessages());
+        assertEquals(1, printer.getNumWarningMessages());
+        assertEquals(1, printer.getDisplayableViolationMessages().size());
+        assertEquals(2, printer.getViolationMessages().size());
+    }
+
+    @Test
+    public void testMessagesAddedAfterCountsAreQueried() {
+        printer.ignoreRegion(LINE_NUMBER, LINE_NUMBER);
+        printer.warn(Rules.LOWER_CAMEL_CASE, WARNING_MSG, new Location(LINE_NUMBER + 1, COLUMN_NUMBER));
+        assertEquals(1, printer.getNumWarningMessages());
+
+        printer.warn(Rules.LOWER_CAMEL_CASE, WARNING_MSG, new Location(LINE_NUMBER + 2, COLUMN_NUMBER));
+        printer.error(Rules.LOWER_CAMEL_CASE, ERROR_MSG, new Location(LINE_NUMBER, COLUMN_NUMBER));
+        assertEquals(2, printer.getNumWarningMessages());
+        assertEquals(0, printer.getNumErrorMessages());
+        assertEquals(2, printer.getDisplayableViolationMessages().size());
+    }
+
+    @Test
+    public void testDuplicateMessageCountedOnce() {
+        printer.warn(Rules.LOWER_CAMEL_CASE, WARNING_MSG, new Location(LINE_NUMBER, COLUMN_NUMBER));
+        printer.warn(Rules.LOWER_CAMEL_CASE, WARNING_MSG, new Location(LINE_NUMBER, COLUMN_NUMBER));
+
+        assertEquals(1, printer.getNumWarningMessages());
+        assertEquals(1, printer.getDisplayableViolationMessages().size());
+    }
+
     private void validateViolationMessage(ViolationMessage message, Rules rule, String msg,
                                              int line, int column) {
         assertEquals(rule, message.getRule());
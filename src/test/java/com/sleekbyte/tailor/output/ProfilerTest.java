@@ -0,0 +1,108 @@
+package com.sleekbyte.tailor.output;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.sleekbyte.tailor.antlr.SwiftLexer;
+import com.sleekbyte.tailor.antlr.SwiftParser;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Tests for {@link Profiler}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ProfilerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Profiler profiler = new Profiler();
+
+    @Test
+    public void testPhasesAndListenersAreCounted() throws IOException {
+        profiler.recordPhase(Profiler.Phase.PARSE, profiler.start());
+        profiler.recordPhase(Profiler.Phase.PARSE, profiler.start());
+        profiler.recordListener("BraceStyleListener", profiler.start());
+
+        JsonObject report = writeReport();
+        JsonObject phases = report.getAsJsonObject("phases");
+        assertEquals(2, phases.getAsJsonObject("parse").get("count").getAsLong());
+        assertEquals(0, phases.getAsJsonObject("lex").get("count").getAsLong());
+        JsonObject listeners = report.getAsJsonObject("listeners");
+        assertEquals(1, listeners.getAsJsonObject("BraceStyleListener").get("count").getAsLong());
+    }
+
+    @Test
+    public void testSlowestFilesAreLimited() throws IOException {
+        for (int i = 0; i < Profiler.SLOWEST_FILES + 5; i++) {
+            profiler.recordFile(new File("File" + i + ".swift"), profiler.start());
+        }
+
+        JsonArray files = writeReport().getAsJsonArray("slowestFiles");
+        assertEquals(Profiler.SLOWEST_FILES, files.size());
+        double previous = Double.MAX_VALUE;
+        for (int i = 0; i < files.size(); i++) {
+            double time = files.get(i).getAsJsonObject().get("wallMillis").getAsDouble();
+            assertTrue(time <= previous);
+            previous = time;
+        }
+    }
+
+    @Test
+    public void testParseInfoIsAggregatedByDecision() throws IOException {
+        for (int i = 0; i < 2; i++) {
+            SwiftParser parser = new SwiftParser(new CommonTokenStream(
+                new SwiftLexer(new ANTLRInputStream("let x = foo(1, 2)\n"))));
+            parser.setProfile(true);
+            parser.topLevel();
+            profiler.recordParseInfo(parser.getParseInfo());
+        }
+
+        JsonArray decisions = writeReport().getAsJsonArray("decisions");
+        assertFalse(decisions.size() == 0);
+        assertTrue(decisions.size() <= Profiler.COSTLIEST_DECISIONS);
+        JsonObject decision = decisions.get(0).getAsJsonObject();
+        assertTrue(decision.get("invocations").getAsLong() >= 2);
+        assertFalse(decision.get("rule").getAsString().isEmpty());
+    }
+
+    @Test
+    public void testPrintReportListsPhases() {
+        profiler.recordPhase(Profiler.Phase.LEX, profiler.start());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        profiler.printReport(new PrintStream(out, true));
+
+        String report = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        for (Profiler.Phase phase : Profiler.Phase.values()) {
+            assertTrue(report.contains(phase.getName()));
+        }
+    }
+
+    private JsonObject writeReport() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("profile.json");
+        profiler.writeReport(path);
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return new Gson().fromJson(reader, JsonObject.class);
+        }
+    }
+
+}
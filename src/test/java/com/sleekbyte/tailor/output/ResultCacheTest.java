@@ -0,0 +1,189 @@
+package com.sleekbyte.tailor.output;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.sleekbyte.tailor.common.ConstructLengths;
+import com.sleekbyte.tailor.common.Location;
+import com.sleekbyte.tailor.common.Rules;
+import com.sleekbyte.tailor.common.Severity;
+import com.sleekbyte.tailor.format.Formatter;
+import com.sleekbyte.tailor.utils.SourceBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests for {@link ResultCache}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ResultCacheTest {
+
+    private static final String VERSION = "1.0.0";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Formatter formatter = mock(Formatter.class);
+    private File inputFile;
+    private Path cacheDir;
+    private String fingerprint;
+
+    @Before
+    public void setUp() throws IOException {
+        inputFile = folder.newFile("Input.swift");
+        Files.write(inputFile.toPath(), "let x = 1\n".getBytes(StandardCharsets.UTF_8));
+        cacheDir = folder.getRoot().toPath().resolve(ResultCache.DEFAULT_CACHE_DIR);
+        fingerprint = ResultCache.fingerprint(EnumSet.allOf(Rules.class), new ConstructLengths(), Severity.WARNING,
+            false, VERSION);
+    }
+
+    @Test
+    public void testMissWhenNothingStored() throws IOException {
+        ResultCache cache = new ResultCache(cacheDir, fingerprint);
+        assertFalse(cache.replay(SourceBuffer.read(inputFile), new Printer(inputFile, Severity.WARNING, formatter)));
+    }
+
+    @Test
+    public void testReplayStoredResult() throws IOException {
+        Printer printer = new Printer(inputFile, Severity.WARNING, formatter);
+        printer.warn(Rules.MIN_NAME_LENGTH, "Constant name too short", new Location(1, 5));
+        printer.error(Rules.MAX_LINE_LENGTH, "Line too long", new Location(2, 1));
+        printer.warn("Tailor message", new Location(3, 1));
+        printer.ignoreRegion(2, 2);
+
+        ResultCache cache = new ResultCache(cacheDir, fingerprint);
+        assertFalse(cache.replay(SourceBuffer.read(inputFile), new Printer(inputFile, Severity.WARNING, formatter)));
+        cache.store(SourceBuffer.read(inputFile), printer);
+
+        Printer replayed = new Printer(inputFile, Severity.WARNING, formatter);
+        assertTrue(new ResultCache(cacheDir, fingerprint).replay(SourceBuffer.read(inputFile), replayed));
+        assertEquals(toSortedStrings(printer.getDisplayableViolationMessages()),
+            toSortedStrings(replayed.getDisplayableViolationMessages()));
+        assertEquals(2, replayed.getNumWarningMessages());
+        assertEquals(0, replayed.getNumErrorMessages());
+    }
+
+    @Test
+    public void testReplayParseError() throws IOException {
+        Printer printer = new Printer(inputFile, Severity.WARNING, formatter);
+        printer.setShouldPrintParseErrorMessage(true);
+        ResultCache cache = new ResultCache(cacheDir, fingerprint);
+        cache.store(SourceBuffer.read(inputFile), printer);
+
+        Printer replayed = new Printer(inputFile, Severity.WARNING, formatter);
+        assertTrue(cache.replay(SourceBuffer.read(inputFile), replayed));
+        assertTrue(replayed.shouldPrintParseErrorMessage());
+    }
+
+    @Test
+    public void testMissWhenFileContentsChange() throws IOException {
+        ResultCache cache = new ResultCache(cacheDir, fingerprint);
+        cache.store(SourceBuffer.read(inputFile), new Printer(inputFile, Severity.WARNING, formatter));
+        Files.write(inputFile.toPath(), "let y = 2\n".getBytes(StandardCharsets.UTF_8));
+        assertFalse(cache.replay(SourceBuffer.read(inputFile), new Printer(inputFile, Severity.WARNING, formatter)));
+    }
+
+    @Test
+    public void testMissWhenFingerprintChanges() throws IOException {
+        new ResultCache(cacheDir, fingerprint).store(SourceBuffer.read(inputFile),
+            new Printer(inputFile, Severity.WARNING, formatter));
+        String otherFingerprint = ResultCache.fingerprint(new HashSet<>(Arrays.asList(Rules.MAX_LINE_LENGTH)),
+            new ConstructLengths(), Severity.WARNING, false, VERSION);
+        ResultCache cache = new ResultCache(cacheDir, otherFingerprint);
+        assertFalse(cache.replay(SourceBuffer.read(inputFile), new Printer(inputFile, Severity.WARNING, formatter)));
+    }
+
+    @Test
+    public void testPruneRemovesEntriesOfOtherFingerprints() throws IOException {
+        new ResultCache(cacheDir, fingerprint).store(SourceBuffer.read(inputFile),
+            new Printer(inputFile, Severity.WARNING, formatter));
+        String otherFingerprint = ResultCache.fingerprint(new HashSet<>(Arrays.asList(Rules.MAX_LINE_LENGTH)),
+            new ConstructLengths(), Severity.WARNING, false, VERSION);
+        ResultCache otherCache = new ResultCache(cacheDir, otherFingerprint);
+        otherCache.store(SourceBuffer.read(inputFile), new Printer(inputFile, Severity.WARNING, formatter));
+        Path unrelatedFile = Files.createFile(cacheDir.resolve("README"));
+
+        otherCache.prune();
+
+        assertFalse(Files.exists(cacheDir.resolve(fingerprint)));
+        assertTrue(Files.exists(unrelatedFile));
+        assertTrue(otherCache.replay(SourceBuffer.read(inputFile),
+            new Printer(inputFile, Severity.WARNING, formatter)));
+    }
+
+    @Test
+    public void testPruneRemovesStaleTemporaryFiles() throws IOException {
+        ResultCache cache = new ResultCache(cacheDir, fingerprint);
+        cache.store(SourceBuffer.read(inputFile), new Printer(inputFile, Severity.WARNING, formatter));
+        Path entryDir = cacheDir.resolve(fingerprint);
+        String entryName;
+        try (Stream<Path> entries = Files.list(entryDir)) {
+            entryName = entries.findFirst().get().getFileName().toString();
+        }
+        Path staleFile = Files.createTempFile(entryDir, entryName, null);
+        long dayAgo = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1);
+        Files.setLastModifiedTime(staleFile, FileTime.fromMillis(dayAgo));
+        Path recentFile = Files.createTempFile(entryDir, entryName, null);
+
+        cache.prune();
+
+        assertFalse(Files.exists(staleFile));
+        assertTrue(Files.exists(recentFile));
+        assertTrue(cache.replay(SourceBuffer.read(inputFile), new Printer(inputFile, Severity.WARNING, formatter)));
+    }
+
+    @Test
+    public void testMissWhenStoredInDebugMode() throws IOException {
+        // In debug mode, files with parse errors are analyzed instead of skipped
+        String debugFingerprint = ResultCache.fingerprint(EnumSet.allOf(Rules.class), new ConstructLengths(),
+            Severity.WARNING, true, VERSION);
+        new ResultCache(cacheDir, debugFingerprint).store(SourceBuffer.read(inputFile),
+            new Printer(inputFile, Severity.WARNING, formatter));
+
+        ResultCache cache = new ResultCache(cacheDir, fingerprint);
+        assertFalse(cache.replay(SourceBuffer.read(inputFile), new Printer(inputFile, Severity.WARNING, formatter)));
+    }
+
+    @Test
+    public void testFingerprintDependsOnSettings() {
+        ConstructLengths constructLengths = new ConstructLengths();
+        constructLengths.setMaxLineLength(100);
+        assertNotEquals(fingerprint, ResultCache.fingerprint(EnumSet.allOf(Rules.class), constructLengths,
+            Severity.WARNING, false, VERSION));
+        assertNotEquals(fingerprint, ResultCache.fingerprint(EnumSet.allOf(Rules.class), new ConstructLengths(),
+            Severity.ERROR, false, VERSION));
+        assertNotEquals(fingerprint, ResultCache.fingerprint(EnumSet.allOf(Rules.class), new ConstructLengths(),
+            Severity.WARNING, false, "2.0.0"));
+        assertNotEquals(fingerprint, ResultCache.fingerprint(Collections.emptySet(), new ConstructLengths(),
+            Severity.WARNING, false, VERSION));
+        assertNotEquals(fingerprint, ResultCache.fingerprint(EnumSet.allOf(Rules.class), new ConstructLengths(),
+            Severity.WARNING, true, VERSION));
+    }
+
+    private static List<String> toSortedStrings(List<ViolationMessage> messages) {
+        return messages.stream().map(ViolationMessage::toString).sorted().collect(Collectors.toList());
+    }
+
+}
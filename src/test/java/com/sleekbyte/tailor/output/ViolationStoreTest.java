@@ -0,0 +1,81 @@
+package com.sleekbyte.tailor.output;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.sleekbyte.tailor.common.Rules;
+import com.sleekbyte.tailor.common.Severity;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/**
+ * Tests for {@link ViolationStore}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ViolationStoreTest {
+
+    private static final String MESSAGE = "Line should not have any trailing whitespace";
+    private static final String FILE_PATH = "/path/to/file.swift";
+
+    private ViolationStore store = new ViolationStore();
+
+    @Test
+    public void testDuplicateViolationIsNotAdded() {
+        assertEquals(0, store.add(Rules.TRAILING_WHITESPACE, 3, 7, Severity.WARNING, MESSAGE));
+        assertEquals(-1, store.add(Rules.TRAILING_WHITESPACE, 3, 7, Severity.WARNING, new String(MESSAGE)));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void testViolationsDifferingInOneFieldAreAdded() {
+        store.add(Rules.TRAILING_WHITESPACE, 3, 7, Severity.WARNING, MESSAGE);
+        assertTrue(store.add(Rules.LEADING_WHITESPACE, 3, 7, Severity.WARNING, MESSAGE) >= 0);
+        assertTrue(store.add(Rules.TRAILING_WHITESPACE, 4, 7, Severity.WARNING, MESSAGE) >= 0);
+        assertTrue(store.add(Rules.TRAILING_WHITESPACE, 3, 8, Severity.WARNING, MESSAGE) >= 0);
+        assertTrue(store.add(Rules.TRAILING_WHITESPACE, 3, 7, Severity.ERROR, MESSAGE) >= 0);
+        assertTrue(store.add(Rules.TRAILING_WHITESPACE, 3, 7, Severity.WARNING, MESSAGE + ".") >= 0);
+        assertTrue(store.add(null, 3, 7, Severity.WARNING, MESSAGE) >= 0);
+        assertEquals(7, store.size());
+    }
+
+    @Test
+    public void testManyViolationsAreKeptInOrder() {
+        int count = 10000;
+        for (int line = 1; line <= count; line++) {
+            store.add(Rules.TRAILING_WHITESPACE, line, 1, Severity.WARNING, MESSAGE);
+            store.add(Rules.TRAILING_WHITESPACE, line, 1, Severity.WARNING, MESSAGE);
+        }
+
+        assertEquals(count, store.size());
+        for (int index = 0; index < count; index++) {
+            assertEquals(index + 1, store.getLineNumber(index));
+        }
+    }
+
+    @Test
+    public void testViolationIsMaterialized() {
+        int index = store.add(null, 5, 0, Severity.ERROR, MESSAGE);
+        store.setState(index, (byte) 2);
+
+        ViolationMessage message = store.get(index, FILE_PATH);
+        assertNull(message.getRule());
+        assertEquals(5, message.getLineNumber());
+        assertEquals(0, message.getColumnNumber());
+        assertEquals(Severity.ERROR, message.getSeverity());
+        assertEquals(MESSAGE, message.getMessage());
+        assertEquals(2, store.getState(index));
+    }
+
+    @Test
+    public void testMessagesAreSharedBetweenStores() {
+        int index = store.add(Rules.TRAILING_WHITESPACE, 1, 1, Severity.WARNING, MESSAGE);
+        ViolationStore otherStore = new ViolationStore();
+        int otherIndex = otherStore.add(Rules.TRAILING_WHITESPACE, 2, 1, Severity.WARNING, new String(MESSAGE));
+
+        assertSame(store.get(index, FILE_PATH).getMessage(), otherStore.get(otherIndex, FILE_PATH).getMessage());
+    }
+
+}
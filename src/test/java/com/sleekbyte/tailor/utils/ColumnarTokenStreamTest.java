@@ -0,0 +1,145 @@
+package com.sleekbyte.tailor.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.sleekbyte.tailor.antlr.SwiftLexer;
+import com.sleekbyte.tailor.antlr.SwiftParser;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests for {@link ColumnarTokenStream}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ColumnarTokenStreamTest {
+
+    private static final String SOURCE = "import Foundation\n"
+        + "\n"
+        + "// A class\n"
+        + "class Foo {\n"
+        + "    /* a property */\n"
+        + "    var bar: Int = 1\n"
+        + "\n"
+        + "    func baz() -> String {\n"
+        + "        return \"\\(bar)\"\n"
+        + "    }\n"
+        + "}\n";
+
+    @Test
+    public void testTokensMatchCommonTokens() {
+        List<Token> expected = fill(new CommonTokenStream(createLexer(SOURCE))).getTokens();
+        List<Token> actual = fill(new ColumnarTokenStream(createLexer(SOURCE))).getTokens();
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Token expectedToken = expected.get(i);
+            Token actualToken = actual.get(i);
+            assertEquals(expectedToken.getText(), actualToken.getText());
+            assertEquals(expectedToken.getType(), actualToken.getType());
+            assertEquals(expectedToken.getChannel(), actualToken.getChannel());
+            assertEquals(expectedToken.getLine(), actualToken.getLine());
+            assertEquals(expectedToken.getCharPositionInLine(), actualToken.getCharPositionInLine());
+            assertEquals(expectedToken.getStartIndex(), actualToken.getStartIndex());
+            assertEquals(expectedToken.getStopIndex(), actualToken.getStopIndex());
+            assertEquals(i, actualToken.getTokenIndex());
+        }
+    }
+
+    @Test
+    public void testParseTreeMatchesCommonTokenStream() {
+        assertEquals(parse(new CommonTokenStream(createLexer(SOURCE))),
+            parse(new ColumnarTokenStream(createLexer(SOURCE))));
+    }
+
+    @Test
+    public void testHiddenTokensAreNotMaterializedByParser() {
+        ColumnarTokenStream tokenStream = new ColumnarTokenStream(createLexer(SOURCE));
+        parse(tokenStream);
+        ColumnarTokenStore store = (ColumnarTokenStore) tokenStream.getTokens();
+
+        for (int i = 0; i < store.size(); i++) {
+            assertEquals(store.getChannel(i) == Token.DEFAULT_CHANNEL, store.isMaterialized(i));
+        }
+        assertSame(tokenStream.get(0), tokenStream.get(0));
+    }
+
+    @Test
+    public void testHiddenTokensAroundToken() {
+        CommonTokenStream expected = fill(new CommonTokenStream(createLexer(SOURCE)));
+        ColumnarTokenStream actual = fill(new ColumnarTokenStream(createLexer(SOURCE)));
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(getTexts(expected.getHiddenTokensToLeft(i)), getTexts(actual.getHiddenTokensToLeft(i)));
+            assertEquals(getTexts(expected.getHiddenTokensToRight(i)), getTexts(actual.getHiddenTokensToRight(i)));
+        }
+    }
+
+    @Test
+    public void testTokensFilteredByType() {
+        ColumnarTokenStream tokenStream = fill(new ColumnarTokenStream(createLexer(SOURCE)));
+        List<Token> comments = tokenStream.getTokens(0, tokenStream.size() - 1,
+            Collections.singleton(SwiftLexer.LineComment));
+
+        assertEquals(1, comments.size());
+        assertEquals("// A class\n", comments.get(0).getText());
+        assertNull(tokenStream.getTokens(0, 0, Collections.singleton(SwiftLexer.LineComment)));
+        assertFalse(((ColumnarTokenStore) tokenStream.getTokens()).isMaterialized(1));
+    }
+
+    @Test
+    public void testEmptySource() {
+        ColumnarTokenStream tokenStream = fill(new ColumnarTokenStream(createLexer("")));
+
+        assertEquals(1, tokenStream.size());
+        assertEquals(Token.EOF, tokenStream.get(0).getType());
+        assertEquals("<EOF>", tokenStream.get(0).getText());
+    }
+
+    @Test
+    public void testMissingTokensAreNotStored() {
+        ColumnarTokenStream tokenStream = new ColumnarTokenStream(createLexer("let a = (1, 2\n"));
+        parse(tokenStream);
+
+        for (Token token : tokenStream.getTokens()) {
+            assertTrue(token.getStartIndex() >= 0);
+        }
+    }
+
+    private static SwiftLexer createLexer(String source) {
+        SwiftLexer lexer = new SwiftLexer(new ANTLRInputStream(source));
+        lexer.removeErrorListeners();
+        return lexer;
+    }
+
+    private static <T extends CommonTokenStream> T fill(T tokenStream) {
+        tokenStream.fill();
+        return tokenStream;
+    }
+
+    private static String parse(CommonTokenStream tokenStream) {
+        SwiftParser parser = new SwiftParser(tokenStream);
+        parser.removeErrorListeners();
+        return parser.topLevel().toStringTree(parser);
+    }
+
+    private static String getTexts(List<Token> tokens) {
+        if (tokens == null) {
+            return null;
+        }
+        StringBuilder texts = new StringBuilder();
+        tokens.forEach(token -> texts.append(token.getText()).append('|'));
+        return texts.toString();
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.sleekbyte.tailor.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.sleekbyte.tailor.antlr.SwiftLexer;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests for {@link CommentExtractor}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CommentExtractorTest {
+
+    private static final List<String> SINGLE_LINE_COMMENTS = Arrays.asList(
+        "//", "///", "////", "// x", "//x", "///x", "/// x", "//\tx", "// tailor:disable", "  // tailor:off",
+        "// tailor:on  ", "// tailor:disabled", "// TODO: a", "// @TODO: a", "// TODO(me): a", "// todo: a",
+        "// TODO:a", "// mastodon", "// FIXME: b", "// fix me", "// @FIXME(x): b", "// !!!: c", "// ???: d",
+        "// @???: d", "// MARK: e", "// MARK: - e", "// mark", "// trademark", "// Mark:e");
+
+    private static final List<String> MULTILINE_COMMENTS = Arrays.asList(
+        "/**/", "/***/", "/* x */", "/*x*/", "/** x */", "/**x */", "/* x*/", "/*\nx\n*/", "/* x */\n", "/**/\n");
+
+    @Test
+    public void testSingleLineCommentTagsMatchRegularExpressions() {
+        for (String text : SINGLE_LINE_COMMENTS) {
+            CommentExtractor extractor = extract(text + "\nlet x = 1\n");
+            assertEquals(1, extractor.getSingleLineComments().size());
+            Token comment = extractor.getSingleLineComments().get(0);
+            String commentText = comment.getText();
+            String trimmed = commentText.trim();
+
+            assertEquals(text, trimmed.equals("// tailor:disable"),
+                extractor.hasTag(comment, CommentExtractor.Tag.DISABLE_LINE));
+            assertEquals(text, trimmed.equals("// tailor:off"),
+                extractor.hasTag(comment, CommentExtractor.Tag.TAILOR_OFF));
+            assertEquals(text, trimmed.equals("// tailor:on"),
+                extractor.hasTag(comment, CommentExtractor.Tag.TAILOR_ON));
+            assertEquals(text, commentText.matches("(?s)(^///?\\s.*$)|(^///?$)"),
+                extractor.hasTag(comment, CommentExtractor.Tag.START_SPACE));
+            String lowerCase = trimmed.toLowerCase();
+            assertEquals(text, lowerCase.matches(".*\\btodo\\b.*"),
+                extractor.hasTag(comment, CommentExtractor.Tag.MENTIONS_TODO));
+            assertEquals(text, lowerCase.matches(".*\\bfix\\s?me\\b.*"),
+                extractor.hasTag(comment, CommentExtractor.Tag.MENTIONS_FIXME));
+            assertEquals(text, lowerCase.matches(".*\\bmark\\b.*"),
+                extractor.hasTag(comment, CommentExtractor.Tag.MENTIONS_MARK));
+        }
+    }
+
+    @Test
+    public void testMultilineCommentTagsMatchRegularExpressions() {
+        for (String text : MULTILINE_COMMENTS) {
+            CommentExtractor extractor = extract("let x = 1\n" + text);
+            assertEquals(1, extractor.getMultilineComments().size());
+            Token comment = extractor.getMultilineComments().get(0);
+            String commentText = comment.getText();
+
+            assertEquals(text, commentText.matches("(?s)(^/\\*\\*?\\s.*$)|(^/\\*\\*\\*?/$)"),
+                extractor.hasTag(comment, CommentExtractor.Tag.START_SPACE));
+            assertEquals(text, commentText.matches("(?s)(^.*\\s\\*/\\n?$)|(^/\\*\\*/\\n?$)"),
+                extractor.hasTag(comment, CommentExtractor.Tag.END_SPACE));
+        }
+    }
+
+    @Test
+    public void testMetaCommentSyntaxIsTagged() {
+        CommentExtractor extractor = extract("// TODO(me): a\n// @FIXME: b\n// MARK: - c\n// TODO:a\n");
+        List<Token> comments = extractor.getSingleLineComments();
+
+        assertTrue(extractor.hasTag(comments.get(0), CommentExtractor.Tag.TODO_SYNTAX));
+        assertTrue(extractor.hasTag(comments.get(0), CommentExtractor.Tag.META_TODO_SYNTAX));
+        assertTrue(extractor.hasTag(comments.get(1), CommentExtractor.Tag.FIXME_SYNTAX));
+        assertFalse(extractor.hasTag(comments.get(1), CommentExtractor.Tag.WARNING_SYNTAX));
+        assertTrue(extractor.hasTag(comments.get(2), CommentExtractor.Tag.MARK_SYNTAX));
+        assertTrue(extractor.hasTag(comments.get(3), CommentExtractor.Tag.MENTIONS_TODO));
+        assertFalse(extractor.hasTag(comments.get(3), CommentExtractor.Tag.TODO_SYNTAX));
+    }
+
+    private static CommentExtractor extract(String source) {
+        CommonTokenStream tokenStream = new CommonTokenStream(new SwiftLexer(new ANTLRInputStream(source)));
+        tokenStream.fill();
+        return new CommentExtractor(tokenStream);
+    }
+
+}
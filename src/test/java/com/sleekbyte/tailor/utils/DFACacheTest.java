@@ -0,0 +1,121 @@
+package com.sleekbyte.tailor.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.sleekbyte.tailor.antlr.SwiftLexer;
+import com.sleekbyte.tailor.antlr.SwiftParser;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/**
+ * Tests for {@link DFACache}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DFACacheTest {
+
+    private static final String CLASS_SOURCE = "class Foo: Bar {\n"
+        + "    var x: Int { get { return 1 } }\n"
+        + "    func f<T>(a: T) throws -> T { return a }\n"
+        + "}\n";
+    private static final String CONSTANT_SOURCE = "let x = 1\n";
+
+    private DFA[] decisionToDFA;
+
+    @Before
+    public void setUp() {
+        SwiftParser parser = createParser(CONSTANT_SOURCE);
+        parser.getInterpreter().clearDFA();
+        decisionToDFA = parser.getInterpreter().decisionToDFA;
+    }
+
+    @Test
+    public void testDefaultHighWaterMarkIsQuarterOfMaxHeap() {
+        assertEquals(Runtime.getRuntime().maxMemory() / 4, DFACache.defaultHighWaterMark());
+    }
+
+    @Test
+    public void testCacheBelowHighWaterMarkIsKept() {
+        DFACache dfaCache = new DFACache(Long.MAX_VALUE);
+        String tree = parse(dfaCache, CLASS_SOURCE);
+
+        assertTrue(getStateCount() > 0);
+        assertEquals(tree, parse(dfaCache, CLASS_SOURCE));
+    }
+
+    @Test
+    public void testCacheIsRebuiltWhenDecisionsInUseExceedHighWaterMark() {
+        DFACache dfaCache = new DFACache(1);
+        String tree = parse(dfaCache, CLASS_SOURCE);
+
+        assertEquals(0, getStateCount());
+        assertEquals(tree, parse(new DFACache(Long.MAX_VALUE), CLASS_SOURCE));
+    }
+
+    @Test
+    public void testCacheSizeIsOnlyCheckedEveryFewFiles() {
+        DFACache dfaCache = new DFACache(1, DFACache.DEFAULT_COLD_AFTER_FILES, 2);
+        parse(dfaCache, CLASS_SOURCE);
+        assertEquals(0, getStateCount());
+
+        parse(dfaCache, CLASS_SOURCE);
+        assertTrue(getStateCount() > 0);
+
+        parse(dfaCache, CLASS_SOURCE);
+        assertEquals(0, getStateCount());
+    }
+
+    @Test
+    public void testColdDecisionsAreDiscarded() {
+        DFACache dfaCache = new DFACache(Long.MAX_VALUE, 1);
+        parse(dfaCache, CLASS_SOURCE);
+        parse(dfaCache, CONSTANT_SOURCE);
+        parse(dfaCache, CONSTANT_SOURCE);
+        long statesBeforeTrim = getStateCount();
+
+        dfaCache.trim(decisionToDFA, getEstimatedSize() - 1, 0);
+        long statesAfterTrim = getStateCount();
+        assertTrue(statesAfterTrim > 0);
+        assertTrue(statesAfterTrim < statesBeforeTrim);
+
+        // Decisions used by the most recent files are kept, so parsing them again does not add any state
+        parse(dfaCache, CONSTANT_SOURCE);
+        assertEquals(statesAfterTrim, getStateCount());
+    }
+
+    private static SwiftParser createParser(String source) {
+        SwiftParser parser = new SwiftParser(new CommonTokenStream(new SwiftLexer(new ANTLRInputStream(source))));
+        parser.removeErrorListeners();
+        return parser;
+    }
+
+    private static String parse(DFACache dfaCache, String source) {
+        SwiftParser parser = createParser(source);
+        dfaCache.track(parser);
+        String tree = parser.topLevel().toStringTree(parser);
+        dfaCache.afterParse(parser);
+        return tree;
+    }
+
+    private long getStateCount() {
+        long states = 0;
+        for (DFA dfa : decisionToDFA) {
+            states += dfa.states.size();
+        }
+        return states;
+    }
+
+    private long getEstimatedSize() {
+        long size = 0;
+        for (DFA dfa : decisionToDFA) {
+            size += DFACache.estimateSize(dfa);
+        }
+        return size;
+    }
+
+}
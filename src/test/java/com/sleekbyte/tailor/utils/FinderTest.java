@@ -0,0 +1,105 @@
+package com.sleekbyte.tailor.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Tests for {@link Finder}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class FinderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path root;
+
+    @Before
+    public void setUp() throws IOException {
+        root = folder.getRoot().toPath();
+        createFile("Sources/App/Main.swift");
+        createFile("Sources/App/Notes.txt");
+        createFile("Sources/Generated/Model.swift");
+        createFile("Pods/Lib/Lib.swift");
+        createFile("Top.swift");
+    }
+
+    @Test
+    public void testFindAllSwiftFiles() {
+        Finder finder = new Finder();
+        finder.walk(root);
+
+        assertEquals(expectedPaths(false, "Pods/Lib/Lib.swift", "Sources/App/Main.swift",
+            "Sources/Generated/Model.swift", "Top.swift"), finder.getFileNames());
+    }
+
+    @Test
+    public void testFindInMultipleDirectories() {
+        Finder finder = new Finder();
+        finder.walk(Arrays.asList(root.resolve("Pods"), root.resolve("Sources/App")));
+
+        assertEquals(expectedPaths(false, "Pods/Lib/Lib.swift", "Sources/App/Main.swift"), finder.getFileNames());
+    }
+
+    @Test
+    public void testIncludedDirectoriesWithExcludedSubdirectory() {
+        Finder finder = new Finder(new HashSet<>(Arrays.asList("Sources", "*.swift")),
+            Collections.singleton("Sources/Generated"), root.toUri());
+        finder.walk(root);
+
+        assertEquals(expectedPaths(true, "Sources/App/Main.swift", "Top.swift"), finder.getFileNames());
+    }
+
+    @Test
+    public void testExcludedFilePattern() {
+        Finder finder = new Finder(Collections.singleton("**"), Collections.singleton("**/Lib.swift"), root.toUri());
+        finder.walk(root);
+
+        assertEquals(expectedPaths(true, "Sources/App/Main.swift", "Sources/Generated/Model.swift", "Top.swift"),
+            finder.getFileNames());
+    }
+
+    @Test
+    public void testExcludedRootFindsNothing() {
+        Finder finder = new Finder(Collections.singleton("**"), Collections.singleton(""), root.toUri());
+        finder.walk(root);
+
+        assertEquals(Collections.emptySet(), finder.getFileNames());
+    }
+
+    private void createFile(String relativePath) throws IOException {
+        Path path = root.resolve(relativePath);
+        Files.createDirectories(path.getParent());
+        Files.createFile(path);
+    }
+
+    private Set<String> expectedPaths(boolean canonical, String... relativePaths) {
+        Set<String> paths = new TreeSet<>();
+        for (String relativePath : relativePaths) {
+            File file = root.resolve(relativePath).toFile();
+            try {
+                paths.add(canonical ? file.getCanonicalPath() : file.getPath());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return paths;
+    }
+
+}
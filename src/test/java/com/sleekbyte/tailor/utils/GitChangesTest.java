@@ -0,0 +1,148 @@
+package com.sleekbyte.tailor.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.sleekbyte.tailor.common.Location;
+import com.sleekbyte.tailor.common.Rules;
+import com.sleekbyte.tailor.common.Severity;
+import com.sleekbyte.tailor.format.Formatter;
+import com.sleekbyte.tailor.output.Printer;
+import com.sleekbyte.tailor.output.ViolationMessage;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for {@link GitChanges}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GitChangesTest {
+
+    private static final String DIFF = "diff --git a/Sources/Changed.swift b/Sources/Changed.swift\n"
+        + "index 1111111..2222222 100644\n"
+        + "--- a/Sources/Changed.swift\n"
+        + "+++ b/Sources/Changed.swift\n"
+        + "@@ -2 +2 @@ class Foo {\n"
+        + "-    let a = 1\n"
+        + "+    let a = 2\n"
+        + "@@ -5,0 +6,2 @@ class Foo {\n"
+        + "+    let b = 1\n"
+        + "+    let c = 1\n"
+        + "@@ -9,2 +10,0 @@ class Foo {\n"
+        + "-    let d = 1\n"
+        + "-    let e = 1\n"
+        + "diff --git a/Sources/Deleted.swift b/Sources/Deleted.swift\n"
+        + "deleted file mode 100644\n"
+        + "--- a/Sources/Deleted.swift\n"
+        + "+++ /dev/null\n"
+        + "@@ -1 +0,0 @@\n"
+        + "-let x = 1\n"
+        + "diff --git a/Sources/With Space.swift b/Sources/With Space.swift\n"
+        + "--- a/Sources/With Space.swift\t\n"
+        + "+++ b/Sources/With Space.swift\t\n"
+        + "@@ -1 +1 @@\n"
+        + "-let y = 1\n"
+        + "+let y = 2\n"
+        + "diff --git a/Sources/Operators.swift b/Sources/Operators.swift\n"
+        + "--- a/Sources/Operators.swift\n"
+        + "+++ b/Sources/Operators.swift\n"
+        + "@@ -3,0 +4,2 @@\n"
+        + "+++ x\n"
+        + "+-- y\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Formatter formatter = mock(Formatter.class);
+    private File topLevel;
+    private GitChanges changes;
+
+    @Before
+    public void setUp() throws IOException {
+        topLevel = folder.getRoot();
+        changes = GitChanges.parse(topLevel, DIFF, Arrays.asList("Untracked.swift", ""));
+    }
+
+    @Test
+    public void testChangedFiles() throws IOException {
+        Set<String> fileNames = new HashSet<>(Arrays.asList(path("Sources/Changed.swift"),
+            path("Sources/Deleted.swift"), path("Sources/Unchanged.swift"), path("Sources/With Space.swift"),
+            path("Untracked.swift")));
+
+        assertEquals(new HashSet<>(Arrays.asList(path("Sources/Changed.swift"), path("Sources/With Space.swift"),
+            path("Untracked.swift"))), changes.filter(fileNames));
+        assertFalse(changes.contains(path("Sources/Deleted.swift")));
+    }
+
+    @Test
+    public void testChangedLines() throws IOException {
+        Printer printer = createPrinter("Sources/Changed.swift", 1, 2, 5, 6, 7, 8, 10);
+        changes.restrictToChangedLines(printer);
+
+        assertEquals(Arrays.asList(2, 6, 7), getDisplayedLines(printer));
+    }
+
+    @Test
+    public void testAddedLineStartingWithPlusesIsNotAFile() throws IOException {
+        Printer printer = createPrinter("Sources/Operators.swift", 3, 4, 5, 6);
+        changes.restrictToChangedLines(printer);
+
+        assertFalse(changes.contains(path("x")));
+        assertEquals(Arrays.asList(4, 5), getDisplayedLines(printer));
+    }
+
+    @Test(expected = GitChanges.GitException.class)
+    public void testRevisionStartingWithDashIsRejected() throws IOException {
+        GitChanges.since("--output=" + path("diff.txt"));
+    }
+
+    @Test
+    public void testAllLinesOfUntrackedFileChanged() throws IOException {
+        Printer printer = createPrinter("Untracked.swift", 1, 2, 3);
+        changes.restrictToChangedLines(printer);
+
+        assertTrue(changes.contains(path("Untracked.swift")));
+        assertEquals(Arrays.asList(1, 2, 3), getDisplayedLines(printer));
+    }
+
+    @Test
+    public void testNoLinesOfUnchangedFileChanged() throws IOException {
+        Printer printer = createPrinter("Sources/Unchanged.swift", 1, 2);
+        changes.restrictToChangedLines(printer);
+
+        assertEquals(Collections.emptyList(), getDisplayedLines(printer));
+    }
+
+    private String path(String relativePath) {
+        return new File(topLevel, relativePath).getPath();
+    }
+
+    private Printer createPrinter(String relativePath, int... lines) {
+        Printer printer = new Printer(new File(path(relativePath)), Severity.WARNING, formatter);
+        for (int line : lines) {
+            printer.warn(Rules.TERMINATING_SEMICOLON, "semicolon", new Location(line, 1));
+        }
+        return printer;
+    }
+
+    private static List<Integer> getDisplayedLines(Printer printer) {
+        return printer.getDisplayableViolationMessages().stream().map(ViolationMessage::getLineNumber).sorted()
+            .collect(Collectors.toList());
+    }
+
+}
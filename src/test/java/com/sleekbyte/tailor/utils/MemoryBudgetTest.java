@@ -0,0 +1,74 @@
+package com.sleekbyte.tailor.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link MemoryBudget}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MemoryBudgetTest {
+
+    private static final int CAPACITY = 512;
+
+    private MemoryBudget memoryBudget = new MemoryBudget(1);
+
+    @Test
+    public void testCostIsProportionalToFileSize() {
+        assertEquals(1, memoryBudget.getCost(0));
+        assertEquals(100, memoryBudget.getCost(1024));
+        assertEquals(200, memoryBudget.getCost(2048));
+    }
+
+    @Test
+    public void testCostOfLargeFileIsCappedAtCapacity() {
+        assertEquals(CAPACITY, memoryBudget.getCost(1024 * 1024));
+    }
+
+    @Test
+    public void testReservationIsReleasedOnce() throws InterruptedException {
+        MemoryBudget.Reservation reservation = memoryBudget.reserve(2048);
+        assertEquals(CAPACITY - 200, memoryBudget.getAvailablePermits());
+        reservation.close();
+        reservation.close();
+        assertEquals(CAPACITY, memoryBudget.getAvailablePermits());
+    }
+
+    @Test
+    public void testReserveWaitsForRelease() throws InterruptedException {
+        MemoryBudget.Reservation reservation = memoryBudget.reserve(4096);
+        CountDownLatch reserved = new CountDownLatch(1);
+        Thread waiting = new Thread(() -> reserveAndCountDown(reserved));
+        waiting.start();
+
+        assertFalse(reserved.await(100, TimeUnit.MILLISECONDS));
+        reservation.close();
+        assertTrue(reserved.await(10, TimeUnit.SECONDS));
+        waiting.join();
+        assertEquals(CAPACITY, memoryBudget.getAvailablePermits());
+    }
+
+    @Test
+    public void testDFAShareOfBudget() {
+        assertEquals(512 * 1024, memoryBudget.getDFAShare());
+    }
+
+    private void reserveAndCountDown(CountDownLatch reserved) {
+        try {
+            MemoryBudget.Reservation reservation = memoryBudget.reserve(4096);
+            reserved.countDown();
+            reservation.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
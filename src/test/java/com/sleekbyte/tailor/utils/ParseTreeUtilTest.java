@@ -0,0 +1,66 @@
+package com.sleekbyte.tailor.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.sleekbyte.tailor.antlr.SwiftLexer;
+import com.sleekbyte.tailor.antlr.SwiftParser;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/**
+ * Tests for {@link ParseTreeUtil}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ParseTreeUtilTest {
+
+    @Test
+    public void testNodeIndexInFlatFile() {
+        StringBuilder source = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            source.append("let x").append(i).append(" = foo(").append(i).append(")\n");
+        }
+        verifyNodeIndices(parse(source.toString()));
+    }
+
+    @Test
+    public void testNodeIndexWithEmptyAndErrorNodes() {
+        StringBuilder source = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            source.append("func f").append(i).append("() {}\n").append("let a = [1, 2, 3,\n");
+        }
+        verifyNodeIndices(parse(source.toString()));
+    }
+
+    @Test
+    public void testSiblings() {
+        ParseTree statements = parse("let a = 1\nlet b = 2\nlet c = 3\n").getChild(0);
+        ParseTree first = statements.getChild(0);
+        ParseTree second = statements.getChild(1);
+
+        assertNull(ParseTreeUtil.getLeftSibling(first));
+        assertSame(second, ParseTreeUtil.getRightSibling(first));
+        assertSame(first, ParseTreeUtil.getLeftSibling(second));
+        assertEquals(-1, ParseTreeUtil.getNodeIndex(null));
+    }
+
+    private static ParseTree parse(String source) {
+        SwiftParser parser = new SwiftParser(new CommonTokenStream(new SwiftLexer(new ANTLRInputStream(source))));
+        parser.removeErrorListeners();
+        return parser.topLevel();
+    }
+
+    private static void verifyNodeIndices(ParseTree parent) {
+        for (int i = 0; i < parent.getChildCount(); i++) {
+            ParseTree child = parent.getChild(i);
+            assertEquals(i, ParseTreeUtil.getNodeIndex(child));
+            verifyNodeIndices(child);
+        }
+    }
+
+}
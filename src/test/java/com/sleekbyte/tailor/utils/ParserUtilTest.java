@@ -0,0 +1,53 @@
+package com.sleekbyte.tailor.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import com.sleekbyte.tailor.antlr.SwiftLexer;
+import com.sleekbyte.tailor.antlr.SwiftParser;
+import com.sleekbyte.tailor.listeners.ErrorListener;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/**
+ * Tests for {@link ParserUtil}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ParserUtilTest {
+
+    private static final String VALID_SOURCE = "import Foundation\n"
+        + "\n"
+        + "class Foo<T: Equatable> {\n"
+        + "    let values: [T] = []\n"
+        + "    func map<U>(transform: (T) -> U) -> [U] {\n"
+        + "        return values.map { transform($0) }\n"
+        + "    }\n"
+        + "}\n";
+
+    @Test
+    public void testTwoStageParseMatchesFullLLParse() {
+        SwiftParser twoStageParser = createParser(VALID_SOURCE);
+        String twoStageTree = ParserUtil.parseTopLevel(twoStageParser, new ErrorListener())
+            .toStringTree(twoStageParser);
+
+        SwiftParser llParser = createParser(VALID_SOURCE);
+        llParser.removeErrorListeners();
+        llParser.addErrorListener(new ErrorListener());
+        String llTree = llParser.topLevel().toStringTree(llParser);
+
+        assertEquals(llTree, twoStageTree);
+    }
+
+    @Test(expected = ErrorListener.ParseException.class)
+    public void testSyntaxErrorIsReportedByFullLLParse() {
+        ParserUtil.parseTopLevel(createParser("class Foo {\n    func (\n"), new ErrorListener());
+    }
+
+    private static SwiftParser createParser(String source) {
+        SwiftLexer lexer = new SwiftLexer(new ANTLRInputStream(source));
+        return new SwiftParser(new CommonTokenStream(lexer));
+    }
+
+}
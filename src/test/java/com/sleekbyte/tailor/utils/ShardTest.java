@@ -0,0 +1,128 @@
+package com.sleekbyte.tailor.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.sleekbyte.tailor.utils.CLIArgumentParser.CLIArgumentParserException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Tests for {@link Shard}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ShardTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testParse() throws CLIArgumentParserException {
+        Shard shard = Shard.parse("2/3");
+        assertEquals(2, shard.getIndex());
+        assertEquals(3, shard.getCount());
+        assertEquals(1, Shard.parse("1/1").getIndex());
+    }
+
+    @Test(expected = CLIArgumentParserException.class)
+    public void testParseIndexOutOfRange() throws CLIArgumentParserException {
+        Shard.parse("4/3");
+    }
+
+    @Test(expected = CLIArgumentParserException.class)
+    public void testParseZeroIndex() throws CLIArgumentParserException {
+        Shard.parse("0/3");
+    }
+
+    @Test(expected = CLIArgumentParserException.class)
+    public void testParseWithoutCount() throws CLIArgumentParserException {
+        Shard.parse("1");
+    }
+
+    @Test(expected = CLIArgumentParserException.class)
+    public void testParseNonNumeric() throws CLIArgumentParserException {
+        Shard.parse("a/b");
+    }
+
+    @Test
+    public void testPartitionIsBalancedBySize() {
+        Map<String, Long> fileSizes = new HashMap<>();
+        fileSizes.put("a.swift", 100L);
+        fileSizes.put("b.swift", 60L);
+        fileSizes.put("c.swift", 50L);
+        fileSizes.put("d.swift", 40L);
+        fileSizes.put("e.swift", 10L);
+        fileSizes.put("f.swift", 10L);
+
+        List<Set<String>> shards = Shard.partition(fileSizes, 2);
+        assertEquals(new TreeSet<>(Arrays.asList("a.swift", "d.swift")), shards.get(0));
+        assertEquals(new TreeSet<>(Arrays.asList("b.swift", "c.swift", "e.swift", "f.swift")), shards.get(1));
+    }
+
+    @Test
+    public void testPartitionAssignsEveryFileToOneShard() {
+        Map<String, Long> fileSizes = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            fileSizes.put("file" + i + ".swift", (long) (i % 7) * 100);
+        }
+
+        List<Set<String>> shards = Shard.partition(fileSizes, 4);
+        Set<String> assigned = new HashSet<>();
+        int numAssigned = 0;
+        for (Set<String> shard : shards) {
+            assigned.addAll(shard);
+            numAssigned += shard.size();
+        }
+        assertEquals(fileSizes.keySet(), assigned);
+        assertEquals(fileSizes.size(), numAssigned);
+        assertEquals(shards, Shard.partition(new HashMap<>(fileSizes), 4));
+    }
+
+    @Test
+    public void testPartitionWithMoreShardsThanFiles() {
+        Map<String, Long> fileSizes = new HashMap<>();
+        fileSizes.put("a.swift", 10L);
+
+        List<Set<String>> shards = Shard.partition(fileSizes, 3);
+        assertEquals(new TreeSet<>(Arrays.asList("a.swift")), shards.get(0));
+        assertTrue(shards.get(1).isEmpty());
+        assertTrue(shards.get(2).isEmpty());
+    }
+
+    @Test
+    public void testSelectUsesFileSizes() throws IOException {
+        Set<String> fileNames = new TreeSet<>();
+        fileNames.add(createFile("small.swift", 1).getPath());
+        fileNames.add(createFile("medium.swift", 2).getPath());
+        String large = createFile("large.swift", 3).getPath();
+        fileNames.add(large);
+
+        assertEquals(new TreeSet<>(Arrays.asList(large)), new Shard(1, 2).select(fileNames));
+        assertEquals(2, new Shard(2, 2).select(fileNames).size());
+    }
+
+    private File createFile(String name, int lines) throws IOException {
+        File file = folder.newFile(name);
+        StringBuilder contents = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            contents.append("let x = 1\n");
+        }
+        Files.write(file.toPath(), contents.toString().getBytes());
+        return file;
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.sleekbyte.tailor.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.misc.Interval;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Tests for {@link SourceBuffer}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SourceBufferTest {
+
+    // Non-ASCII identifier that takes more bytes than characters in UTF-8
+    private static final String CAFE = "caf" + (char) 0xE9;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File inputFile;
+
+    @Before
+    public void setUp() throws IOException {
+        inputFile = folder.newFile("Input.swift");
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        SourceBuffer source = SourceBuffer.read(inputFile);
+        assertEquals(0, source.length());
+        assertEquals(0, source.newCharStream().size());
+        assertEquals(-1, source.newReader().read());
+    }
+
+    @Test
+    public void testContentsAreSharedByAllViews() throws IOException {
+        String contents = "let " + CAFE + " = 1\r\nprint(" + CAFE + ")\n";
+        byte[] bytes = contents.getBytes(StandardCharsets.UTF_8);
+        Files.write(inputFile.toPath(), bytes);
+
+        SourceBuffer source = SourceBuffer.read(inputFile);
+        assertEquals(inputFile, source.getFile());
+        assertArrayEquals(bytes, source.getBytes());
+        assertEquals(contents.length(), source.length());
+        assertEquals('\n', source.charAt(source.length() - 1));
+
+        CharStream stream = source.newCharStream();
+        assertEquals(contents, stream.getText(new Interval(0, stream.size() - 1)));
+
+        LineNumberReader reader = new LineNumberReader(source.newReader());
+        assertEquals("let " + CAFE + " = 1", reader.readLine());
+        assertEquals("print(" + CAFE + ")", reader.readLine());
+        assertEquals(2, reader.getLineNumber());
+        assertEquals(null, reader.readLine());
+    }
+
+    @Test(expected = CharacterCodingException.class)
+    public void testMalformedInput() throws IOException {
+        Files.write(inputFile.toPath(), new byte[]{'l', 'e', 't', (byte) 0xC3});
+        SourceBuffer.read(inputFile);
+    }
+
+}
@@ -0,0 +1,2 @@
+# This is not a valid Swift file, and this line is too long // tailor:disable
+let thisNameIsTooLong = 1